@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.benchmark;
+
+import static spypunk.tetris.constants.TetrisConstants.HEIGHT;
+import static spypunk.tetris.constants.TetrisConstants.WIDTH;
+
+import java.util.Random;
+
+import spypunk.tetris.model.Shape;
+import spypunk.tetris.model.ShapeRandomizer;
+import spypunk.tetris.model.ShapeRotation;
+import spypunk.tetris.model.ShapeType;
+import spypunk.tetris.model.TetrisInstance;
+import spypunk.tetris.service.TetrisInstanceService;
+
+public enum BoardFixture {
+
+    FALLING {
+        @Override
+        public TetrisInstance create(final TetrisInstanceService tetrisInstanceService, final long seed) {
+            final TetrisInstance tetrisInstance = createTetrisInstance(tetrisInstanceService, seed);
+
+            tetrisInstance.setCurrentGravityFrame(tetrisInstance.getSpeed());
+
+            return tetrisInstance;
+        }
+    },
+    LOCKING {
+        @Override
+        public TetrisInstance create(final TetrisInstanceService tetrisInstanceService, final long seed) {
+            final TetrisInstance tetrisInstance = createTetrisInstance(tetrisInstanceService, seed);
+            final Shape currentShape = tetrisInstance.getCurrentShape();
+
+            currentShape.setY(currentShape.getY() + tetrisInstanceService.getDropDistance(tetrisInstance) - 1);
+
+            tetrisInstance.setCurrentGravityFrame(tetrisInstance.getSpeed());
+
+            return tetrisInstance;
+        }
+    },
+    MULTI_ROW_CLEAR {
+        @Override
+        public TetrisInstance create(final TetrisInstanceService tetrisInstanceService, final long seed) {
+            final TetrisInstance tetrisInstance = tetrisInstanceService.create(seed, ShapeRandomizer.BAG);
+            final Random random = new Random(seed);
+            final int hole = random.nextInt(WIDTH);
+
+            for (int row = HEIGHT - CLEARED_ROWS; row < HEIGHT; ++row) {
+                fillRow(tetrisInstance, row, FULL_ROW & ~(1 << hole), random);
+            }
+
+            final int verticalRotation = getVerticalRotation(ShapeType.I);
+            final ShapeRotation rotation = ShapeType.I.getRotation(verticalRotation);
+
+            tetrisInstance.setCurrentShape(Shape.Builder.instance().setShapeType(ShapeType.I)
+                    .setCurrentRotation(verticalRotation).setX(hole - rotation.getMinColumn())
+                    .setY(-rotation.getMinRow()).build());
+
+            tetrisInstanceService.triggerHardDrop(tetrisInstance);
+            tetrisInstanceService.update(tetrisInstance);
+
+            tetrisInstance.setCurrentGravityFrame(tetrisInstance.getSpeed());
+
+            return tetrisInstance;
+        }
+    };
+
+    private static final int FULL_ROW = (1 << WIDTH) - 1;
+
+    private static final int GARBAGE_ROWS = 8;
+
+    private static final int CLEARED_ROWS = 4;
+
+    public abstract TetrisInstance create(TetrisInstanceService tetrisInstanceService, long seed);
+
+    private static TetrisInstance createTetrisInstance(final TetrisInstanceService tetrisInstanceService,
+            final long seed) {
+        final TetrisInstance tetrisInstance = tetrisInstanceService.create(seed, ShapeRandomizer.BAG);
+
+        fillGarbage(tetrisInstance, GARBAGE_ROWS, new Random(seed));
+
+        return tetrisInstance;
+    }
+
+    static void fillGarbage(final TetrisInstance tetrisInstance, final int rows, final Random random) {
+        for (int row = HEIGHT - rows; row < HEIGHT; ++row) {
+            fillRow(tetrisInstance, row, random.nextInt(FULL_ROW) & ~(1 << random.nextInt(WIDTH)), random);
+        }
+    }
+
+    private static void fillRow(final TetrisInstance tetrisInstance, final int row, final int gridRow,
+            final Random random) {
+        final byte[] gridShapeTypes = tetrisInstance.getGridShapeTypes();
+
+        tetrisInstance.getGridRows()[row] = gridRow;
+
+        for (int column = 0; column < WIDTH; ++column) {
+            if ((gridRow & 1 << column) != 0) {
+                gridShapeTypes[row * WIDTH + column] = (byte) random.nextInt(ShapeType.values().length);
+                tetrisInstance.getGridColumns()[column] |= 1 << row;
+            }
+        }
+    }
+
+    private static int getVerticalRotation(final ShapeType shapeType) {
+        for (int i = 0; i < shapeType.getRotationCount(); ++i) {
+            final ShapeRotation rotation = shapeType.getRotation(i);
+
+            if (rotation.getMinColumn() == rotation.getMaxColumn()) {
+                return i;
+            }
+        }
+
+        throw new IllegalArgumentException(shapeType.name());
+    }
+}
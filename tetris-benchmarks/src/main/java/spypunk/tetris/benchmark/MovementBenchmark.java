@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import spypunk.tetris.factory.ShapeFactoryImpl;
+import spypunk.tetris.model.Movement;
+import spypunk.tetris.model.Shape;
+import spypunk.tetris.model.TetrisInstance;
+import spypunk.tetris.service.TetrisInstanceService;
+import spypunk.tetris.service.TetrisInstanceServiceImpl;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovementBenchmark {
+
+    @Param
+    public Movement movement;
+
+    private final TetrisInstanceService tetrisInstanceService = new TetrisInstanceServiceImpl(
+            new ShapeFactoryImpl());
+
+    private final Shape shape = Shape.Builder.instance().build();
+
+    private TetrisInstance tetrisInstance;
+
+    @Setup
+    public void setUp() {
+        tetrisInstance = BoardFixture.FALLING.create(tetrisInstanceService, Benchmarks.SEED);
+
+        shape.setShapeType(tetrisInstance.getCurrentShape().getShapeType());
+    }
+
+    @Benchmark
+    public boolean canShapeMove() {
+        return tetrisInstanceService.canShapeMove(tetrisInstance, movement);
+    }
+
+    @Benchmark
+    public Shape apply() {
+        final Shape currentShape = tetrisInstance.getCurrentShape();
+
+        shape.setX(currentShape.getX());
+        shape.setY(currentShape.getY());
+        shape.setCurrentRotation(currentShape.getCurrentRotation());
+
+        movement.apply(shape);
+
+        return shape;
+    }
+}
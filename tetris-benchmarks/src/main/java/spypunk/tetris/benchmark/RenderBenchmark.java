@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.benchmark;
+
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import spypunk.tetris.factory.ShapeFactoryImpl;
+import spypunk.tetris.model.TetrisInstance;
+import spypunk.tetris.service.TetrisInstanceService;
+import spypunk.tetris.service.TetrisInstanceServiceImpl;
+import spypunk.tetris.ui.cache.ImageCacheImpl;
+import spypunk.tetris.ui.font.cache.FontCacheImpl;
+import spypunk.tetris.ui.font.renderer.TextRendererImpl;
+import spypunk.tetris.ui.view.AbstractTetrisInstanceView;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderBenchmark {
+
+    @Param
+    public RenderView renderView;
+
+    @Param
+    public RenderFixture renderFixture;
+
+    private final TetrisInstanceService tetrisInstanceService = new TetrisInstanceServiceImpl(
+            new ShapeFactoryImpl());
+
+    private final TetrisInstance[] tetrisInstances = new TetrisInstance[2];
+
+    private AbstractTetrisInstanceView tetrisInstanceView;
+
+    private int frame;
+
+    @Setup
+    public void setUp() {
+        tetrisInstanceView = renderView.create(new TextRendererImpl(new FontCacheImpl()), new ImageCacheImpl());
+
+        tetrisInstances[0] = renderFixture.create(tetrisInstanceService, Benchmarks.SEED);
+        tetrisInstances[1] = renderFixture.create(tetrisInstanceService, Benchmarks.SEED + 1);
+
+        tetrisInstanceView.render(tetrisInstances[0]);
+
+        System.out.println(renderView + " pipeline: " + getPipeline(tetrisInstanceView.getImage()));
+    }
+
+    @Benchmark
+    public boolean frame() {
+        final TetrisInstance tetrisInstance = tetrisInstances[++frame & 1];
+
+        tetrisInstance.setInfoVersion(frame);
+        tetrisInstance.setStatisticsVersion(frame);
+
+        return tetrisInstanceView.render(tetrisInstance);
+    }
+
+    @Benchmark
+    public boolean dirtyCheckBaseline() {
+        return tetrisInstanceView.render(tetrisInstances[0]);
+    }
+
+    private static String getPipeline(final BufferedImage image) {
+        final String imageDescription = image.getColorModel().getClass().getSimpleName() + "/"
+                + image.getRaster().getDataBuffer().getClass().getSimpleName()
+                + (image.getColorModel().hasAlpha() ? " with alpha" : " opaque");
+
+        final GraphicsEnvironment graphicsEnvironment = GraphicsEnvironment.getLocalGraphicsEnvironment();
+
+        if (GraphicsEnvironment.isHeadless()) {
+            return imageDescription + ", " + graphicsEnvironment.getClass().getSimpleName() + ", software loops";
+        }
+
+        final GraphicsConfiguration graphicsConfiguration = graphicsEnvironment.getDefaultScreenDevice()
+                .getDefaultConfiguration();
+
+        return imageDescription + ", " + graphicsConfiguration.getClass().getSimpleName() + ", accelerated: "
+                + image.getCapabilities(graphicsConfiguration).isAccelerated();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.benchmark;
+
+import java.util.Random;
+
+import spypunk.tetris.model.ShapeRandomizer;
+import spypunk.tetris.model.TetrisInstance;
+import spypunk.tetris.model.TetrisInstance.State;
+import spypunk.tetris.service.TetrisInstanceService;
+
+public enum RenderFixture {
+
+    EMPTY(0, State.RUNNING),
+    HALF_FULL(10, State.RUNNING),
+    NEAR_TOP_OUT(17, State.RUNNING),
+    PAUSED(10, State.PAUSED),
+    GAME_OVER(17, State.GAME_OVER);
+
+    private final int garbageRows;
+
+    private final State state;
+
+    RenderFixture(final int garbageRows, final State state) {
+        this.garbageRows = garbageRows;
+        this.state = state;
+    }
+
+    public TetrisInstance create(final TetrisInstanceService tetrisInstanceService, final long seed) {
+        final TetrisInstance tetrisInstance = tetrisInstanceService.create(seed, ShapeRandomizer.BAG);
+
+        BoardFixture.fillGarbage(tetrisInstance, garbageRows, new Random(seed));
+
+        tetrisInstance.setState(state);
+
+        return tetrisInstance;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.benchmark;
+
+import spypunk.tetris.ui.cache.ImageCache;
+import spypunk.tetris.ui.font.renderer.TextRenderer;
+import spypunk.tetris.ui.view.AbstractTetrisInstanceView;
+import spypunk.tetris.ui.view.TetrisInstanceGridView;
+import spypunk.tetris.ui.view.TetrisInstanceInfoView;
+import spypunk.tetris.ui.view.TetrisInstanceRasterGridView;
+import spypunk.tetris.ui.view.TetrisInstanceStatisticsView;
+
+public enum RenderView {
+
+    GRID {
+        @Override
+        public AbstractTetrisInstanceView create(final TextRenderer textRenderer, final ImageCache imageCache) {
+            return new TetrisInstanceGridView(textRenderer, imageCache);
+        }
+    },
+    RASTER_GRID {
+        @Override
+        public AbstractTetrisInstanceView create(final TextRenderer textRenderer, final ImageCache imageCache) {
+            return new TetrisInstanceRasterGridView(textRenderer, imageCache);
+        }
+    },
+    INFO {
+        @Override
+        public AbstractTetrisInstanceView create(final TextRenderer textRenderer, final ImageCache imageCache) {
+            return new TetrisInstanceInfoView(textRenderer, imageCache);
+        }
+    },
+    STATISTICS {
+        @Override
+        public AbstractTetrisInstanceView create(final TextRenderer textRenderer, final ImageCache imageCache) {
+            return new TetrisInstanceStatisticsView(textRenderer, imageCache);
+        }
+    };
+
+    public abstract AbstractTetrisInstanceView create(TextRenderer textRenderer, ImageCache imageCache);
+}
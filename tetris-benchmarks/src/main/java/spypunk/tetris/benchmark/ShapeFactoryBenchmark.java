@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import spypunk.tetris.factory.ShapeFactory;
+import spypunk.tetris.factory.ShapeFactoryImpl;
+import spypunk.tetris.model.Shape;
+import spypunk.tetris.model.ShapeRandomizer;
+import spypunk.tetris.model.ShapeSequence;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShapeFactoryBenchmark {
+
+    @Param
+    public ShapeRandomizer shapeRandomizer;
+
+    private final ShapeFactory shapeFactory = new ShapeFactoryImpl();
+
+    private ShapeSequence shapeSequence;
+
+    @Setup
+    public void setUp() {
+        shapeSequence = new ShapeSequence(shapeRandomizer, Benchmarks.SEED);
+    }
+
+    @Benchmark
+    public Shape createShape() {
+        return shapeFactory.createShape(shapeSequence);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ProcessBuilder.Redirect;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import spypunk.tetris.Main;
+import spypunk.tetris.ui.util.StartupMilestone;
+
+public final class StartupBenchmark {
+
+    private static final int DEFAULT_RUNS = 10;
+
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private static final long POLL_MILLIS = 10;
+
+    private static final double[] PERCENTILES = { 0, 50, 90, 99, 100 };
+
+    private static final String HEADER_FORMAT = "%-20s %6s %8s %8s %8s %8s %8s%n".intern();
+
+    private static final String ROW_FORMAT = "%-20s %6d %8d %8d %8d %8d %8d%n".intern();
+
+    private StartupBenchmark() {
+        throw new IllegalAccessError();
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final int runs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RUNS;
+        final String classpath = args.length > 1 ? args[1] : System.getProperty("java.class.path");
+
+        final Map<StartupMilestone, List<Long>> timings = new EnumMap<>(StartupMilestone.class);
+
+        Arrays.stream(StartupMilestone.values()).forEach(milestone -> timings.put(milestone, new ArrayList<>()));
+
+        for (int run = 1; run <= runs; ++run) {
+            final Map<StartupMilestone, Long> runTimings = launch(classpath);
+
+            System.out.println("Run " + run + "/" + runs + ": " + runTimings);
+
+            runTimings.forEach((milestone, time) -> timings.get(milestone).add(time));
+        }
+
+        System.out.println();
+        System.out.printf(HEADER_FORMAT, "Milestone (ms)", "runs", "min", "p50", "p90", "p99", "max");
+
+        timings.forEach(StartupBenchmark::printTimings);
+    }
+
+    private static Map<StartupMilestone, Long> launch(final String classpath)
+            throws IOException, InterruptedException {
+        final String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        final Path timelineFile = Files.createTempFile("tetris-startup", ".txt");
+
+        final ProcessBuilder processBuilder = new ProcessBuilder(java,
+                "-D" + StartupMilestone.PROPERTY + "=" + timelineFile, "-cp", classpath, Main.class.getName())
+                        .redirectErrorStream(true).redirectOutput(Redirect.INHERIT);
+
+        final Map<StartupMilestone, Long> runTimings = new EnumMap<>(StartupMilestone.class);
+
+        final long launchTime = System.currentTimeMillis();
+        final long deadline = System.nanoTime() + TIMEOUT_NANOS;
+        final Process process = processBuilder.start();
+
+        try {
+            boolean alive = true;
+
+            while (alive && !runTimings.containsKey(StartupMilestone.FIRST_TICK)
+                    && System.nanoTime() - deadline < 0) {
+                alive = !process.waitFor(POLL_MILLIS, TimeUnit.MILLISECONDS);
+
+                readTimings(timelineFile, launchTime, runTimings);
+            }
+        } finally {
+            process.destroyForcibly().waitFor();
+            Files.deleteIfExists(timelineFile);
+        }
+
+        return runTimings;
+    }
+
+    private static void readTimings(final Path timelineFile, final long launchTime,
+            final Map<StartupMilestone, Long> runTimings) throws IOException {
+        for (final String line : Files.readAllLines(timelineFile, StandardCharsets.UTF_8)) {
+            final String[] tokens = line.split(" ");
+
+            if (tokens.length == 2) {
+                runTimings.put(StartupMilestone.valueOf(tokens[0]), Long.parseLong(tokens[1]) - launchTime);
+            }
+        }
+    }
+
+    private static void printTimings(final StartupMilestone milestone, final List<Long> times) {
+        if (times.isEmpty()) {
+            System.out.printf(HEADER_FORMAT, milestone, 0, "-", "-", "-", "-", "-");
+            return;
+        }
+
+        final long[] sortedTimes = times.stream().mapToLong(Long::longValue).sorted().toArray();
+
+        System.out.printf(ROW_FORMAT, milestone, sortedTimes.length,
+            percentile(sortedTimes, PERCENTILES[0]), percentile(sortedTimes, PERCENTILES[1]),
+            percentile(sortedTimes, PERCENTILES[2]), percentile(sortedTimes, PERCENTILES[3]),
+            percentile(sortedTimes, PERCENTILES[4]));
+    }
+
+    private static long percentile(final long[] sortedTimes, final double percentile) {
+        final int rank = (int) Math.ceil(percentile / 100 * sortedTimes.length);
+
+        return sortedTimes[Math.max(rank - 1, 0)];
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import spypunk.tetris.engine.TetrisEngine;
+import spypunk.tetris.engine.TetrisEngineInput;
+import spypunk.tetris.factory.TetrisEngineFactory;
+import spypunk.tetris.factory.TetrisEngineFactoryImpl;
+import spypunk.tetris.model.ShapeRandomizer;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TetrisEngineBenchmark {
+
+    private static final int INPUT_COUNT = 1 << 12;
+
+    private static final int INPUT_MASK = INPUT_COUNT - 1;
+
+    private final TetrisEngineFactory tetrisEngineFactory = new TetrisEngineFactoryImpl();
+
+    private final int[] inputs = new int[INPUT_COUNT];
+
+    private TetrisEngine tetrisEngine;
+
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(Benchmarks.SEED);
+        final TetrisEngineInput[] tetrisEngineInputs = TetrisEngineInput.values();
+
+        for (int i = 0; i < INPUT_COUNT; ++i) {
+            final int input = random.nextInt(tetrisEngineInputs.length * 2);
+
+            inputs[i] = input < tetrisEngineInputs.length ? tetrisEngineInputs[input].getMask()
+                    : TetrisEngineInput.NONE;
+        }
+
+        seed = Benchmarks.SEED;
+        tetrisEngine = createTetrisEngine();
+    }
+
+    @Benchmark
+    public TetrisEngine frame() {
+        if (tetrisEngine.isGameOver()) {
+            tetrisEngine = createTetrisEngine();
+        }
+
+        tetrisEngine.step(inputs[(int) tetrisEngine.getFrame() & INPUT_MASK]);
+
+        return tetrisEngine;
+    }
+
+    @Benchmark
+    public TetrisEngine game() {
+        final TetrisEngine gameTetrisEngine = createTetrisEngine();
+
+        while (!gameTetrisEngine.isGameOver()) {
+            gameTetrisEngine.step(inputs[(int) gameTetrisEngine.getFrame() & INPUT_MASK]);
+        }
+
+        return gameTetrisEngine;
+    }
+
+    private TetrisEngine createTetrisEngine() {
+        return tetrisEngineFactory.createTetrisEngine(seed++, ShapeRandomizer.BAG);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import spypunk.tetris.factory.ShapeFactoryImpl;
+import spypunk.tetris.model.TetrisInstance;
+import spypunk.tetris.service.TetrisInstanceService;
+import spypunk.tetris.service.TetrisInstanceServiceImpl;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TetrisInstanceServiceBenchmark {
+
+    @Param
+    public BoardFixture boardFixture;
+
+    private final TetrisInstanceService tetrisInstanceService = new TetrisInstanceServiceImpl(
+            new ShapeFactoryImpl());
+
+    private final TetrisInstance tetrisInstance = TetrisInstance.Builder.instance().build();
+
+    private TetrisInstance fixture;
+
+    @Setup
+    public void setUp() {
+        fixture = boardFixture.create(tetrisInstanceService, Benchmarks.SEED);
+    }
+
+    @Benchmark
+    public TetrisInstance copy() {
+        tetrisInstanceService.copy(fixture, tetrisInstance);
+
+        return tetrisInstance;
+    }
+
+    @Benchmark
+    public TetrisInstance update() {
+        tetrisInstanceService.copy(fixture, tetrisInstance);
+        tetrisInstanceService.update(tetrisInstance);
+
+        return tetrisInstance;
+    }
+}
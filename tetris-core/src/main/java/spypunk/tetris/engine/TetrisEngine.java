@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.engine;
+
+import spypunk.tetris.model.Movement;
+import spypunk.tetris.model.ShapeType;
+import spypunk.tetris.model.TetrisInstance;
+
+public interface TetrisEngine {
+
+    void step(int inputs);
+
+    boolean triggerMovement(Movement movement);
+
+    boolean triggerHardDrop();
+
+    TetrisInstance getTetrisInstance();
+
+    long getSeed();
+
+    long getFrame();
+
+    boolean isGameOver();
+
+    ShapeType getPreviewShapeType(int index);
+
+    TetrisInstance createSnapshot();
+
+    void snapshot(TetrisInstance snapshot);
+
+    void restore(TetrisInstance snapshot);
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.engine;
+
+import spypunk.tetris.factory.ShapeFactoryImpl;
+import spypunk.tetris.model.Movement;
+import spypunk.tetris.model.ShapeRandomizer;
+import spypunk.tetris.model.ShapeType;
+import spypunk.tetris.model.TetrisInstance;
+import spypunk.tetris.model.TetrisInstance.State;
+import spypunk.tetris.service.TetrisInstanceService;
+import spypunk.tetris.service.TetrisInstanceServiceImpl;
+
+public class TetrisEngineImpl implements TetrisEngine {
+
+    private static final TetrisEngineInput[] INPUTS = TetrisEngineInput.values();
+
+    private final TetrisInstanceService tetrisInstanceService;
+
+    private final TetrisInstance tetrisInstance;
+
+    private final long seed;
+
+    public TetrisEngineImpl(final long seed, final ShapeRandomizer shapeRandomizer) {
+        this.seed = seed;
+
+        tetrisInstanceService = new TetrisInstanceServiceImpl(new ShapeFactoryImpl());
+        tetrisInstance = tetrisInstanceService.create(seed, shapeRandomizer);
+    }
+
+    @Override
+    public void step(final int inputs) {
+        if (inputs != TetrisEngineInput.NONE) {
+            for (final TetrisEngineInput input : INPUTS) {
+                if (input.isIn(inputs)) {
+                    input.apply(tetrisInstanceService, tetrisInstance);
+                }
+            }
+        }
+
+        tetrisInstanceService.update(tetrisInstance);
+
+        tetrisInstance.setFrame(tetrisInstance.getFrame() + 1);
+    }
+
+    @Override
+    public boolean triggerMovement(final Movement movement) {
+        return tetrisInstanceService.triggerMovement(tetrisInstance, movement);
+    }
+
+    @Override
+    public boolean triggerHardDrop() {
+        return tetrisInstanceService.triggerHardDrop(tetrisInstance);
+    }
+
+    @Override
+    public TetrisInstance getTetrisInstance() {
+        return tetrisInstance;
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public long getFrame() {
+        return tetrisInstance.getFrame();
+    }
+
+    @Override
+    public boolean isGameOver() {
+        return State.GAME_OVER.equals(tetrisInstance.getState());
+    }
+
+    @Override
+    public ShapeType getPreviewShapeType(final int index) {
+        if (index == 0) {
+            return tetrisInstance.getNextShape().getShapeType();
+        }
+
+        return tetrisInstance.getShapeSequence().peek(index - 1);
+    }
+
+    @Override
+    public TetrisInstance createSnapshot() {
+        final TetrisInstance snapshot = TetrisInstance.Builder.instance().build();
+
+        snapshot(snapshot);
+
+        return snapshot;
+    }
+
+    @Override
+    public void snapshot(final TetrisInstance snapshot) {
+        tetrisInstanceService.copy(tetrisInstance, snapshot);
+    }
+
+    @Override
+    public void restore(final TetrisInstance snapshot) {
+        tetrisInstanceService.copy(snapshot, tetrisInstance);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.engine;
+
+import spypunk.tetris.model.Movement;
+import spypunk.tetris.model.TetrisInstance;
+import spypunk.tetris.service.TetrisInstanceService;
+
+public enum TetrisEngineInput {
+
+    LEFT {
+        @Override
+        public boolean apply(final TetrisInstanceService tetrisInstanceService, final TetrisInstance tetrisInstance) {
+            return tetrisInstanceService.triggerMovement(tetrisInstance, Movement.LEFT);
+        }
+    },
+    RIGHT {
+        @Override
+        public boolean apply(final TetrisInstanceService tetrisInstanceService, final TetrisInstance tetrisInstance) {
+            return tetrisInstanceService.triggerMovement(tetrisInstance, Movement.RIGHT);
+        }
+    },
+    DOWN {
+        @Override
+        public boolean apply(final TetrisInstanceService tetrisInstanceService, final TetrisInstance tetrisInstance) {
+            return tetrisInstanceService.triggerMovement(tetrisInstance, Movement.DOWN);
+        }
+    },
+    ROTATE_CW {
+        @Override
+        public boolean apply(final TetrisInstanceService tetrisInstanceService, final TetrisInstance tetrisInstance) {
+            return tetrisInstanceService.triggerMovement(tetrisInstance, Movement.ROTATE_CW);
+        }
+    },
+    HARD_DROP {
+        @Override
+        public boolean apply(final TetrisInstanceService tetrisInstanceService, final TetrisInstance tetrisInstance) {
+            return tetrisInstanceService.triggerHardDrop(tetrisInstance);
+        }
+    };
+
+    public static final int NONE = 0;
+
+    private final int mask = 1 << ordinal();
+
+    public abstract boolean apply(TetrisInstanceService tetrisInstanceService, TetrisInstance tetrisInstance);
+
+    public int getMask() {
+        return mask;
+    }
+
+    public boolean isIn(final int inputs) {
+        return (inputs & mask) != 0;
+    }
+}
@@ -9,9 +9,10 @@
 package spypunk.tetris.factory;
 
 import spypunk.tetris.model.Shape;
+import spypunk.tetris.model.ShapeSequence;
 
 @FunctionalInterface
 public interface ShapeFactory {
 
-    Shape createRandomShape();
+    Shape createShape(ShapeSequence shapeSequence);
 }
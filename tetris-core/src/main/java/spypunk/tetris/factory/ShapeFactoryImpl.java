@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.factory;
+
+import javax.inject.Singleton;
+
+import spypunk.tetris.model.Shape;
+import spypunk.tetris.model.ShapeSequence;
+import spypunk.tetris.model.ShapeType;
+
+@Singleton
+public class ShapeFactoryImpl implements ShapeFactory {
+
+    private static final int INITIAL_ROTATION = 0;
+
+    private static final int MAX_START_X = 7;
+
+    @Override
+    public Shape createShape(final ShapeSequence shapeSequence) {
+        final ShapeType shapeType = shapeSequence.next();
+
+        final int x = shapeSequence.nextInt(MAX_START_X);
+
+        return Shape.Builder.instance().setShapeType(shapeType).setX(x).setY(0)
+                .setCurrentRotation(INITIAL_ROTATION).build();
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.factory;
+
+import javax.inject.Singleton;
+
+import spypunk.tetris.engine.TetrisEngine;
+import spypunk.tetris.engine.TetrisEngineImpl;
+import spypunk.tetris.model.ShapeRandomizer;
+
+@Singleton
+public class TetrisEngineFactoryImpl implements TetrisEngineFactory {
+
+    @Override
+    public TetrisEngine createTetrisEngine(final long seed) {
+        return createTetrisEngine(seed, ShapeRandomizer.UNIFORM);
+    }
+
+    @Override
+    public TetrisEngine createTetrisEngine(final long seed, final ShapeRandomizer shapeRandomizer) {
+        return new TetrisEngineImpl(seed, shapeRandomizer);
+    }
+}
@@ -18,14 +18,13 @@ import javax.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import spypunk.tetris.Main;
 import spypunk.tetris.exception.TetrisException;
 import spypunk.tetris.model.Tetris;
 
 @Singleton
 public class TetrisFactoryImpl implements TetrisFactory {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(Main.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(TetrisFactoryImpl.class);
 
     private static final String NAME_KEY = "name".intern();
 
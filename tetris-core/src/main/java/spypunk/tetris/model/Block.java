@@ -8,13 +8,11 @@
 
 package spypunk.tetris.model;
 
-import java.awt.Point;
-
 public class Block {
 
     private Shape shape;
 
-    private Point location;
+    private Location location;
 
     public static final class Builder {
 
@@ -32,7 +30,7 @@ public class Block {
             return this;
         }
 
-        public Builder setLocation(final Point location) {
+        public Builder setLocation(final Location location) {
             block.setLocation(location);
             return this;
         }
@@ -50,11 +48,11 @@ public class Block {
         this.shape = shape;
     }
 
-    public Point getLocation() {
+    public Location getLocation() {
         return location;
     }
 
-    public void setLocation(final Point location) {
+    public void setLocation(final Location location) {
         this.location = location;
     }
 }
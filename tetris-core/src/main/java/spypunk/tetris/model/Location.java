@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.model;
+
+public final class Location {
+
+    private final int x;
+
+    private final int y;
+
+    public Location(final int x, final int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * x + y;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof Location)) {
+            return false;
+        }
+
+        final Location location = (Location) obj;
+
+        return x == location.x && y == location.y;
+    }
+
+    @Override
+    public String toString() {
+        return "Location [x=" + x + ", y=" + y + "]";
+    }
+}
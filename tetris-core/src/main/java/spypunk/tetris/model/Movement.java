@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.model;
+
+public enum Movement {
+
+    LEFT(-1, 0, 0),
+    RIGHT(1, 0, 0),
+    DOWN(0, 1, 0),
+    ROTATE_CW(0, 0, 1);
+
+    private final int dx;
+
+    private final int dy;
+
+    private final int rotationDelta;
+
+    Movement(final int dx, final int dy, final int rotationDelta) {
+        this.dx = dx;
+        this.dy = dy;
+        this.rotationDelta = rotationDelta;
+    }
+
+    public int getX(final Shape shape) {
+        return shape.getX() + dx;
+    }
+
+    public int getY(final Shape shape) {
+        return shape.getY() + dy;
+    }
+
+    public int getRotation(final Shape shape) {
+        return (shape.getCurrentRotation() + rotationDelta) % shape.getShapeType().getRotationCount();
+    }
+
+    public void apply(final Shape shape) {
+        shape.setCurrentRotation(getRotation(shape));
+        shape.setX(getX(shape));
+        shape.setY(getY(shape));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.model;
+
+public final class MovementQueue {
+
+    private static final Movement[] MOVEMENTS = Movement.values();
+
+    private final byte[] movements;
+
+    private int head;
+
+    private int size;
+
+    public MovementQueue(final int capacity) {
+        movements = new byte[capacity];
+    }
+
+    public boolean offer(final Movement movement) {
+        if (size == movements.length) {
+            return false;
+        }
+
+        movements[(head + size) % movements.length] = (byte) movement.ordinal();
+
+        ++size;
+
+        return true;
+    }
+
+    public Movement poll() {
+        if (size == 0) {
+            return null;
+        }
+
+        final Movement movement = MOVEMENTS[movements[head]];
+
+        head = (head + 1) % movements.length;
+
+        --size;
+
+        return movement;
+    }
+
+    public void copyFrom(final MovementQueue movementQueue) {
+        System.arraycopy(movementQueue.movements, 0, movements, 0, movements.length);
+
+        head = movementQueue.head;
+        size = movementQueue.size;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return movements.length;
+    }
+}
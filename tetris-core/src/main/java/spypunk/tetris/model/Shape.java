@@ -8,18 +8,15 @@
 
 package spypunk.tetris.model;
 
-import java.awt.Rectangle;
-import java.util.List;
-
 public class Shape {
 
     private ShapeType shapeType;
 
-    private Rectangle boundingBox;
-
     private int currentRotation;
 
-    private List<Block> blocks;
+    private int x;
+
+    private int y;
 
     public static final class Builder {
 
@@ -37,13 +34,13 @@ public class Shape {
             return this;
         }
 
-        public Builder setBlocks(final List<Block> blocks) {
-            shape.setBlocks(blocks);
+        public Builder setX(final int x) {
+            shape.setX(x);
             return this;
         }
 
-        public Builder setBoundingBox(final Rectangle boundingBox) {
-            shape.setBoundingBox(boundingBox);
+        public Builder setY(final int y) {
+            shape.setY(y);
             return this;
         }
 
@@ -65,20 +62,20 @@ public class Shape {
         this.shapeType = shapeType;
     }
 
-    public List<Block> getBlocks() {
-        return blocks;
+    public int getX() {
+        return x;
     }
 
-    public void setBlocks(final List<Block> blocks) {
-        this.blocks = blocks;
+    public void setX(final int x) {
+        this.x = x;
     }
 
-    public Rectangle getBoundingBox() {
-        return boundingBox;
+    public int getY() {
+        return y;
     }
 
-    public void setBoundingBox(final Rectangle boundingBox) {
-        this.boundingBox = boundingBox;
+    public void setY(final int y) {
+        this.y = y;
     }
 
     public int getCurrentRotation() {
@@ -89,4 +86,7 @@ public class Shape {
         this.currentRotation = currentRotation;
     }
 
+    public ShapeRotation getRotation() {
+        return shapeType.getRotation(currentRotation);
+    }
 }
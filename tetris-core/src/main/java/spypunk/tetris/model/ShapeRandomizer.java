@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.model;
+
+public enum ShapeRandomizer {
+
+    UNIFORM {
+        @Override
+        public void generate(final ShapeSequence shapeSequence) {
+            for (int i = 0; i < BATCH_SIZE; ++i) {
+                shapeSequence.add(SHAPE_TYPES[shapeSequence.nextInt(SHAPE_TYPES.length)]);
+            }
+        }
+    },
+    BAG {
+        @Override
+        public void generate(final ShapeSequence shapeSequence) {
+            int remainingShapeTypes = (1 << SHAPE_TYPES.length) - 1;
+
+            for (int i = SHAPE_TYPES.length; i > 0; --i) {
+                int shapeTypeMask = remainingShapeTypes;
+
+                for (int j = shapeSequence.nextInt(i); j > 0; --j) {
+                    shapeTypeMask &= shapeTypeMask - 1;
+                }
+
+                final int shapeTypeIndex = Integer.numberOfTrailingZeros(shapeTypeMask);
+
+                remainingShapeTypes &= ~(1 << shapeTypeIndex);
+
+                shapeSequence.add(SHAPE_TYPES[shapeTypeIndex]);
+            }
+        }
+    },
+    HISTORY {
+        @Override
+        public void generate(final ShapeSequence shapeSequence) {
+            for (int i = 0; i < BATCH_SIZE; ++i) {
+                final int history = shapeSequence.getHistory();
+
+                int shapeTypeIndex = shapeSequence.nextInt(SHAPE_TYPES.length);
+
+                for (int roll = 1; roll < HISTORY_ROLLS && isInHistory(history, shapeTypeIndex); ++roll) {
+                    shapeTypeIndex = shapeSequence.nextInt(SHAPE_TYPES.length);
+                }
+
+                shapeSequence.setHistory((history << HISTORY_ENTRY_BITS | shapeTypeIndex + 1) & HISTORY_MASK);
+                shapeSequence.add(SHAPE_TYPES[shapeTypeIndex]);
+            }
+        }
+
+        private boolean isInHistory(final int history, final int shapeTypeIndex) {
+            for (int entry = history; entry != 0; entry >>>= HISTORY_ENTRY_BITS) {
+                if ((entry & HISTORY_ENTRY_MASK) == shapeTypeIndex + 1) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    };
+
+    public static final int BATCH_SIZE = 7;
+
+    private static final ShapeType[] SHAPE_TYPES = ShapeType.values();
+
+    private static final int HISTORY_SIZE = 4;
+
+    private static final int HISTORY_ROLLS = 4;
+
+    private static final int HISTORY_ENTRY_BITS = 3;
+
+    private static final int HISTORY_ENTRY_MASK = (1 << HISTORY_ENTRY_BITS) - 1;
+
+    private static final int HISTORY_MASK = (1 << HISTORY_ENTRY_BITS * HISTORY_SIZE) - 1;
+
+    public abstract void generate(ShapeSequence shapeSequence);
+}
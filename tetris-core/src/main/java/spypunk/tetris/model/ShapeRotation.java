@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.model;
+
+import java.util.Set;
+
+public final class ShapeRotation {
+
+    private final int[] columns;
+
+    private final int[] rows;
+
+    private final int[] rowMasks;
+
+    private final int minColumn;
+
+    private final int maxColumn;
+
+    private final int minRow;
+
+    private final int maxRow;
+
+    public ShapeRotation(final Set<Location> locations) {
+        final int blockCount = locations.size();
+
+        columns = new int[blockCount];
+        rows = new int[blockCount];
+
+        int index = 0;
+
+        for (final Location location : locations) {
+            columns[index] = location.getX();
+            rows[index] = location.getY();
+            ++index;
+        }
+
+        minColumn = min(columns);
+        maxColumn = max(columns);
+        minRow = min(rows);
+        maxRow = max(rows);
+
+        rowMasks = new int[maxRow - minRow + 1];
+
+        for (int i = 0; i < blockCount; ++i) {
+            rowMasks[rows[i] - minRow] |= 1 << columns[i] - minColumn;
+        }
+    }
+
+    public int getBlockCount() {
+        return columns.length;
+    }
+
+    public int getColumn(final int index) {
+        return columns[index];
+    }
+
+    public int getRow(final int index) {
+        return rows[index];
+    }
+
+    public int getRowMask(final int row, final int x) {
+        final int shift = x + minColumn;
+        final int rowMask = rowMasks[row - minRow];
+
+        return shift >= 0 ? rowMask << shift : rowMask >>> -shift;
+    }
+
+    public int getMinColumn() {
+        return minColumn;
+    }
+
+    public int getMaxColumn() {
+        return maxColumn;
+    }
+
+    public int getMinRow() {
+        return minRow;
+    }
+
+    public int getMaxRow() {
+        return maxRow;
+    }
+
+    private static int min(final int[] values) {
+        int min = values[0];
+
+        for (final int value : values) {
+            min = Math.min(min, value);
+        }
+
+        return min;
+    }
+
+    private static int max(final int[] values) {
+        int max = values[0];
+
+        for (final int value : values) {
+            max = Math.max(max, value);
+        }
+
+        return max;
+    }
+}
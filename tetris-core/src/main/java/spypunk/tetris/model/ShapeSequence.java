@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.model;
+
+import static spypunk.tetris.constants.TetrisConstants.SHAPE_PREVIEW_SIZE;
+
+public final class ShapeSequence {
+
+    private static final ShapeType[] SHAPE_TYPES = ShapeType.values();
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final byte[] shapeTypes = new byte[SHAPE_PREVIEW_SIZE + ShapeRandomizer.BATCH_SIZE];
+
+    private ShapeRandomizer shapeRandomizer;
+
+    private long randomState;
+
+    private int history;
+
+    private int head;
+
+    private int size;
+
+    public ShapeSequence(final ShapeRandomizer shapeRandomizer, final long seed) {
+        this.shapeRandomizer = shapeRandomizer;
+
+        randomState = seed;
+
+        fill();
+    }
+
+    public ShapeSequence(final ShapeSequence shapeSequence) {
+        copyFrom(shapeSequence);
+    }
+
+    public void copyFrom(final ShapeSequence shapeSequence) {
+        System.arraycopy(shapeSequence.shapeTypes, 0, shapeTypes, 0, shapeTypes.length);
+
+        shapeRandomizer = shapeSequence.shapeRandomizer;
+        randomState = shapeSequence.randomState;
+        history = shapeSequence.history;
+        head = shapeSequence.head;
+        size = shapeSequence.size;
+    }
+
+    public ShapeType next() {
+        final ShapeType shapeType = SHAPE_TYPES[shapeTypes[head]];
+
+        head = (head + 1) % shapeTypes.length;
+
+        --size;
+
+        fill();
+
+        return shapeType;
+    }
+
+    public ShapeType peek(final int index) {
+        return SHAPE_TYPES[shapeTypes[(head + index) % shapeTypes.length]];
+    }
+
+    public void add(final ShapeType shapeType) {
+        shapeTypes[(head + size) % shapeTypes.length] = (byte) shapeType.ordinal();
+
+        ++size;
+    }
+
+    public int nextInt(final int bound) {
+        randomState += GOLDEN_GAMMA;
+
+        long z = randomState;
+
+        z = (z ^ z >>> 30) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ z >>> 27) * 0x94D049BB133111EBL;
+        z ^= z >>> 31;
+
+        return (int) ((z >>> 32) * bound >>> 32);
+    }
+
+    public ShapeRandomizer getShapeRandomizer() {
+        return shapeRandomizer;
+    }
+
+    public int getHistory() {
+        return history;
+    }
+
+    public void setHistory(final int history) {
+        this.history = history;
+    }
+
+    private void fill() {
+        while (size < SHAPE_PREVIEW_SIZE) {
+            shapeRandomizer.generate(this);
+        }
+    }
+}
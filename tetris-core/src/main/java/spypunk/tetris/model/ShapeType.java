@@ -22,8 +22,6 @@ import static spypunk.tetris.constants.TetrisConstants.LOCATION_2_M1;
 import static spypunk.tetris.constants.TetrisConstants.LOCATION_3_0;
 import static spypunk.tetris.constants.TetrisConstants.LOCATION_3_1;
 
-import java.awt.Point;
-import java.awt.Rectangle;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -33,59 +31,49 @@ import com.google.common.collect.Sets;
 public enum ShapeType {
 
     O(
-            Arrays.asList(Sets.newHashSet(LOCATION_0_0, LOCATION_1_0, LOCATION_0_1, LOCATION_1_1)),
-            new Rectangle(0, 0, 2, 2)),
+            Arrays.asList(Sets.newHashSet(LOCATION_0_0, LOCATION_1_0, LOCATION_0_1, LOCATION_1_1))),
     I(
             Arrays.asList(Sets.newHashSet(LOCATION_0_0, LOCATION_1_0, LOCATION_2_0, LOCATION_3_0),
                 Sets.newHashSet(LOCATION_2_M1, LOCATION_2_0, LOCATION_2_1, LOCATION_2_2),
                 Sets.newHashSet(LOCATION_0_1, LOCATION_1_1, LOCATION_2_1, LOCATION_3_1),
-                Sets.newHashSet(LOCATION_1_M1, LOCATION_1_0, LOCATION_1_1, LOCATION_1_2)),
-            new Rectangle(0, 0, 4, 4)),
+                Sets.newHashSet(LOCATION_1_M1, LOCATION_1_0, LOCATION_1_1, LOCATION_1_2))),
     J(
             Arrays.asList(Sets.newHashSet(LOCATION_0_0, LOCATION_0_1, LOCATION_1_1, LOCATION_2_1),
                 Sets.newHashSet(LOCATION_1_0, LOCATION_2_0, LOCATION_1_1, LOCATION_1_2),
                 Sets.newHashSet(LOCATION_0_1, LOCATION_1_1, LOCATION_2_1, LOCATION_2_2),
-                Sets.newHashSet(LOCATION_1_0, LOCATION_1_1, LOCATION_0_2, LOCATION_1_2)),
-            new Rectangle(0, 0, 3, 3)),
+                Sets.newHashSet(LOCATION_1_0, LOCATION_1_1, LOCATION_0_2, LOCATION_1_2))),
     L(
             Arrays.asList(Sets.newHashSet(LOCATION_0_1, LOCATION_1_1, LOCATION_2_1, LOCATION_2_0),
                 Sets.newHashSet(LOCATION_1_0, LOCATION_1_1, LOCATION_1_2, LOCATION_2_2),
                 Sets.newHashSet(LOCATION_0_1, LOCATION_1_1, LOCATION_2_1, LOCATION_0_2),
-                Sets.newHashSet(LOCATION_0_0, LOCATION_1_0, LOCATION_1_1, LOCATION_1_2)),
-            new Rectangle(0, 0, 3, 3)),
+                Sets.newHashSet(LOCATION_0_0, LOCATION_1_0, LOCATION_1_1, LOCATION_1_2))),
     S(
             Arrays.asList(Sets.newHashSet(LOCATION_1_0, LOCATION_2_0, LOCATION_0_1, LOCATION_1_1),
                 Sets.newHashSet(LOCATION_1_0, LOCATION_1_1, LOCATION_2_1, LOCATION_2_2),
                 Sets.newHashSet(LOCATION_1_1, LOCATION_2_1, LOCATION_0_2, LOCATION_1_2),
-                Sets.newHashSet(LOCATION_0_0, LOCATION_0_1, LOCATION_1_1, LOCATION_1_2)),
-            new Rectangle(0, 0, 3, 3)),
+                Sets.newHashSet(LOCATION_0_0, LOCATION_0_1, LOCATION_1_1, LOCATION_1_2))),
     T(
             Arrays.asList(Sets.newHashSet(LOCATION_1_0, LOCATION_0_1, LOCATION_1_1, LOCATION_2_1),
                 Sets.newHashSet(LOCATION_1_0, LOCATION_1_1, LOCATION_2_1, LOCATION_1_2),
                 Sets.newHashSet(LOCATION_0_1, LOCATION_1_1, LOCATION_2_1, LOCATION_1_2),
-                Sets.newHashSet(LOCATION_1_0, LOCATION_0_1, LOCATION_1_1, LOCATION_1_2)),
-            new Rectangle(0, 0, 3, 3)),
+                Sets.newHashSet(LOCATION_1_0, LOCATION_0_1, LOCATION_1_1, LOCATION_1_2))),
     Z(
             Arrays.asList(Sets.newHashSet(LOCATION_0_0, LOCATION_1_0, LOCATION_1_1, LOCATION_2_1),
                 Sets.newHashSet(LOCATION_2_0, LOCATION_1_1, LOCATION_2_1, LOCATION_1_2),
                 Sets.newHashSet(LOCATION_0_1, LOCATION_1_1, LOCATION_1_2, LOCATION_2_2),
-                Sets.newHashSet(LOCATION_1_0, LOCATION_0_1, LOCATION_1_1, LOCATION_0_2)),
-            new Rectangle(0, 0, 3, 3));
+                Sets.newHashSet(LOCATION_1_0, LOCATION_0_1, LOCATION_1_1, LOCATION_0_2)));
 
-    private final List<Set<Point>> rotations;
+    private final ShapeRotation[] rotations;
 
-    private final Rectangle boundingBox;
-
-    ShapeType(final List<Set<Point>> rotations, final Rectangle boundingBox) {
-        this.rotations = rotations;
-        this.boundingBox = boundingBox;
+    ShapeType(final List<Set<Location>> rotations) {
+        this.rotations = rotations.stream().map(ShapeRotation::new).toArray(ShapeRotation[]::new);
     }
 
-    public List<Set<Point>> getRotations() {
-        return rotations;
+    public ShapeRotation getRotation(final int rotation) {
+        return rotations[rotation];
     }
 
-    public Rectangle getBoundingBox() {
-        return boundingBox;
+    public int getRotationCount() {
+        return rotations.length;
     }
 }
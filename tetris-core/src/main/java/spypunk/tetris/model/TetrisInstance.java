@@ -0,0 +1,362 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.model;
+
+import static spypunk.tetris.constants.TetrisConstants.HEIGHT;
+import static spypunk.tetris.constants.TetrisConstants.MAX_MOVEMENTS_PER_UPDATE;
+import static spypunk.tetris.constants.TetrisConstants.MOVEMENTS_CAPACITY;
+import static spypunk.tetris.constants.TetrisConstants.WIDTH;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+public class TetrisInstance {
+
+    private final int[] gridRows = new int[HEIGHT];
+
+    private final byte[] gridShapeTypes = new byte[WIDTH * HEIGHT];
+
+    private final int[] gridColumns = new int[WIDTH];
+
+    private int completeGridRows;
+
+    private Shape currentShape;
+
+    private Shape nextShape;
+
+    private ShapeSequence shapeSequence;
+
+    private final MovementQueue movements = new MovementQueue(MOVEMENTS_CAPACITY);
+
+    private int maxMovementsPerUpdate = MAX_MOVEMENTS_PER_UPDATE;
+
+    private int droppedMovements;
+
+    private final int[] statistics = new int[ShapeType.values().length];
+
+    private int level;
+
+    private int score;
+
+    private int completedRows;
+
+    private int speed;
+
+    private State state;
+
+    private int currentGravityFrame;
+
+    private int currentMovementScore;
+
+    private boolean currentShapeLocked;
+
+    private List<TetrisEvent> tetrisEvents = Lists.newArrayList();
+
+    private boolean hardDropEnabled;
+
+    private int infoVersion;
+
+    private int statisticsVersion;
+
+    private int stackVersion;
+
+    private TetrisEvent stackEvent;
+
+    private final Shape lockedShape = Shape.Builder.instance().build();
+
+    private int clearedGridRows;
+
+    private long frame;
+
+    public enum State {
+        RUNNING {
+            @Override
+            public State onPause() {
+                return PAUSED;
+            }
+        },
+        PAUSED {
+            @Override
+            public State onPause() {
+                return RUNNING;
+            }
+        },
+        GAME_OVER;
+
+        public State onPause() {
+            return this;
+        }
+    }
+
+    public static final class Builder {
+
+        private final TetrisInstance tetrisInstance = new TetrisInstance();
+
+        private Builder() {
+        }
+
+        public static Builder instance() {
+            return new Builder();
+        }
+
+        public Builder setNextShape(final Shape nextShape) {
+            tetrisInstance.setNextShape(nextShape);
+            return this;
+        }
+
+        public Builder setShapeSequence(final ShapeSequence shapeSequence) {
+            tetrisInstance.setShapeSequence(shapeSequence);
+            return this;
+        }
+
+        public Builder setState(final State state) {
+            tetrisInstance.setState(state);
+            return this;
+        }
+
+        public Builder setSpeed(final int speed) {
+            tetrisInstance.setSpeed(speed);
+            return this;
+        }
+
+        public Builder setMaxMovementsPerUpdate(final int maxMovementsPerUpdate) {
+            tetrisInstance.setMaxMovementsPerUpdate(maxMovementsPerUpdate);
+            return this;
+        }
+
+        public TetrisInstance build() {
+            return tetrisInstance;
+        }
+
+    }
+
+    public int[] getGridRows() {
+        return gridRows;
+    }
+
+    public byte[] getGridShapeTypes() {
+        return gridShapeTypes;
+    }
+
+    public int[] getGridColumns() {
+        return gridColumns;
+    }
+
+    public int getCompleteGridRows() {
+        return completeGridRows;
+    }
+
+    public void setCompleteGridRows(final int completeGridRows) {
+        this.completeGridRows = completeGridRows;
+    }
+
+    public Map<Location, Block> getBlocks() {
+        final Map<Location, Block> blocks = Maps.newHashMap();
+        final ShapeType[] shapeTypes = ShapeType.values();
+
+        for (int row = 0; row < HEIGHT; ++row) {
+            final int gridRow = gridRows[row];
+
+            for (int column = 0; column < WIDTH; ++column) {
+                if ((gridRow & 1 << column) != 0) {
+                    final ShapeType shapeType = shapeTypes[gridShapeTypes[row * WIDTH + column]];
+                    final Shape shape = Shape.Builder.instance().setShapeType(shapeType).build();
+                    final Location location = new Location(column, row);
+
+                    blocks.put(location, Block.Builder.instance().setLocation(location).setShape(shape).build());
+                }
+            }
+        }
+
+        return blocks;
+    }
+
+    public Shape getCurrentShape() {
+        return currentShape;
+    }
+
+    public void setCurrentShape(final Shape currentShape) {
+        this.currentShape = currentShape;
+    }
+
+    public Shape getNextShape() {
+        return nextShape;
+    }
+
+    public void setNextShape(final Shape nextShape) {
+        this.nextShape = nextShape;
+    }
+
+    public ShapeSequence getShapeSequence() {
+        return shapeSequence;
+    }
+
+    public void setShapeSequence(final ShapeSequence shapeSequence) {
+        this.shapeSequence = shapeSequence;
+    }
+
+    public MovementQueue getMovements() {
+        return movements;
+    }
+
+    public int getMaxMovementsPerUpdate() {
+        return maxMovementsPerUpdate;
+    }
+
+    public void setMaxMovementsPerUpdate(final int maxMovementsPerUpdate) {
+        this.maxMovementsPerUpdate = maxMovementsPerUpdate;
+    }
+
+    public int getDroppedMovements() {
+        return droppedMovements;
+    }
+
+    public void setDroppedMovements(final int droppedMovements) {
+        this.droppedMovements = droppedMovements;
+    }
+
+    public int[] getStatistics() {
+        return statistics;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(final int level) {
+        this.level = level;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(final int score) {
+        this.score = score;
+    }
+
+    public int getCompletedRows() {
+        return completedRows;
+    }
+
+    public void setCompletedRows(final int completedRows) {
+        this.completedRows = completedRows;
+    }
+
+    public int getSpeed() {
+        return speed;
+    }
+
+    public void setSpeed(final int speed) {
+        this.speed = speed;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public void setState(final State state) {
+        this.state = state;
+    }
+
+    public int getCurrentGravityFrame() {
+        return currentGravityFrame;
+    }
+
+    public void setCurrentGravityFrame(final int currentGravityFrame) {
+        this.currentGravityFrame = currentGravityFrame;
+    }
+
+    public int getCurrentMovementScore() {
+        return currentMovementScore;
+    }
+
+    public void setCurrentMovementScore(final int currentMovementScore) {
+        this.currentMovementScore = currentMovementScore;
+    }
+
+    public List<TetrisEvent> getTetrisEvents() {
+        return tetrisEvents;
+    }
+
+    public void setTetrisEvents(final List<TetrisEvent> tetrisEvents) {
+        this.tetrisEvents = tetrisEvents;
+    }
+
+    public boolean isCurrentShapeLocked() {
+        return currentShapeLocked;
+    }
+
+    public void setCurrentShapeLocked(final boolean currentShapeLocked) {
+        this.currentShapeLocked = currentShapeLocked;
+    }
+
+    public boolean isHardDropEnabled() {
+        return hardDropEnabled;
+    }
+
+    public void setHardDropEnabled(final boolean hardDropEnabled) {
+        this.hardDropEnabled = hardDropEnabled;
+    }
+
+    public int getInfoVersion() {
+        return infoVersion;
+    }
+
+    public void setInfoVersion(final int infoVersion) {
+        this.infoVersion = infoVersion;
+    }
+
+    public int getStatisticsVersion() {
+        return statisticsVersion;
+    }
+
+    public void setStatisticsVersion(final int statisticsVersion) {
+        this.statisticsVersion = statisticsVersion;
+    }
+
+    public int getStackVersion() {
+        return stackVersion;
+    }
+
+    public void setStackVersion(final int stackVersion) {
+        this.stackVersion = stackVersion;
+    }
+
+    public TetrisEvent getStackEvent() {
+        return stackEvent;
+    }
+
+    public void setStackEvent(final TetrisEvent stackEvent) {
+        this.stackEvent = stackEvent;
+    }
+
+    public Shape getLockedShape() {
+        return lockedShape;
+    }
+
+    public int getClearedGridRows() {
+        return clearedGridRows;
+    }
+
+    public void setClearedGridRows(final int clearedGridRows) {
+        this.clearedGridRows = clearedGridRows;
+    }
+
+    public long getFrame() {
+        return frame;
+    }
+
+    public void setFrame(final long frame) {
+        this.frame = frame;
+    }
+}
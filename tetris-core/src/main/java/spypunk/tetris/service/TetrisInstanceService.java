@@ -9,6 +9,7 @@
 package spypunk.tetris.service;
 
 import spypunk.tetris.model.Movement;
+import spypunk.tetris.model.ShapeRandomizer;
 import spypunk.tetris.model.Tetris;
 import spypunk.tetris.model.TetrisInstance;
 
@@ -16,11 +17,21 @@ public interface TetrisInstanceService {
 
     void create(Tetris tetris);
 
+    TetrisInstance create();
+
+    TetrisInstance create(long seed, ShapeRandomizer shapeRandomizer);
+
     void update(TetrisInstance tetrisInstance);
 
-    void triggerMovement(TetrisInstance tetrisInstance, Movement movement);
+    boolean triggerMovement(TetrisInstance tetrisInstance, Movement movement);
+
+    boolean triggerHardDrop(TetrisInstance tetrisInstance);
 
-    void triggerHardDrop(TetrisInstance tetrisInstance);
+    int getDropDistance(TetrisInstance tetrisInstance);
+
+    boolean canShapeMove(TetrisInstance tetrisInstance, Movement movement);
 
     void pause(TetrisInstance tetrisInstance);
+
+    void copy(TetrisInstance source, TetrisInstance target);
 }
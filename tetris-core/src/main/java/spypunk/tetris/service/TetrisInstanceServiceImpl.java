@@ -0,0 +1,550 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.service;
+
+import static spypunk.tetris.constants.TetrisConstants.HEIGHT;
+import static spypunk.tetris.constants.TetrisConstants.WIDTH;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import spypunk.tetris.factory.ShapeFactory;
+import spypunk.tetris.model.Movement;
+import spypunk.tetris.model.MovementQueue;
+import spypunk.tetris.model.Shape;
+import spypunk.tetris.model.ShapeRandomizer;
+import spypunk.tetris.model.ShapeRotation;
+import spypunk.tetris.model.ShapeSequence;
+import spypunk.tetris.model.ShapeType;
+import spypunk.tetris.model.Tetris;
+import spypunk.tetris.model.TetrisEvent;
+import spypunk.tetris.model.TetrisInstance;
+import spypunk.tetris.model.TetrisInstance.State;
+
+@Singleton
+public class TetrisInstanceServiceImpl implements TetrisInstanceService {
+
+    private static final int ROWS_PER_LEVEL = 10;
+
+    private static final int FULL_ROW = (1 << WIDTH) - 1;
+
+    private static final int MAX_LEVEL_SPEED_LEVEL = 29;
+
+    private final ShapeFactory shapeFactory;
+
+    private final int[] scorePerRows = { 0, 40, 100, 300, 1200 };
+
+    private final int[] levelSpeeds = createLevelSpeeds();
+
+    @Inject
+    public TetrisInstanceServiceImpl(final ShapeFactory shapeFactory) {
+        this.shapeFactory = shapeFactory;
+    }
+
+    @Override
+    public void create(final Tetris tetris) {
+        final TetrisInstance previousTetrisInstance = tetris.getTetrisInstance();
+        final TetrisInstance tetrisInstance = create();
+
+        if (previousTetrisInstance != null) {
+            tetrisInstance.setInfoVersion(previousTetrisInstance.getInfoVersion() + tetrisInstance.getInfoVersion());
+            tetrisInstance.setStatisticsVersion(
+                previousTetrisInstance.getStatisticsVersion() + tetrisInstance.getStatisticsVersion());
+            tetrisInstance.setStackVersion(previousTetrisInstance.getStackVersion() + 1);
+        }
+
+        tetris.setTetrisInstance(tetrisInstance);
+    }
+
+    @Override
+    public TetrisInstance create() {
+        return create(ThreadLocalRandom.current().nextLong(), ShapeRandomizer.UNIFORM);
+    }
+
+    @Override
+    public TetrisInstance create(final long seed, final ShapeRandomizer shapeRandomizer) {
+        final int speed = getLevelSpeed(0);
+
+        final ShapeSequence shapeSequence = new ShapeSequence(shapeRandomizer, seed);
+
+        final TetrisInstance tetrisInstance = TetrisInstance.Builder.instance()
+                .setShapeSequence(shapeSequence)
+                .setState(State.RUNNING)
+                .setSpeed(speed).build();
+
+        tetrisInstance.setNextShape(shapeFactory.createShape(shapeSequence));
+
+        getNextShape(tetrisInstance);
+
+        return tetrisInstance;
+    }
+
+    @Override
+    public void update(final TetrisInstance tetrisInstance) {
+        tetrisInstance.getTetrisEvents().clear();
+
+        if (!isTetrisInstanceRunning(tetrisInstance)) {
+            return;
+        }
+
+        tetrisInstance.setCurrentGravityFrame(tetrisInstance.getCurrentGravityFrame() + 1);
+
+        if (handleNextShape(tetrisInstance) && handleMovements(tetrisInstance)) {
+            if (tetrisInstance.isHardDropEnabled()) {
+                handleHardDrop(tetrisInstance);
+            } else {
+                handleGravity(tetrisInstance);
+            }
+        }
+    }
+
+    @Override
+    public void pause(final TetrisInstance tetrisInstance) {
+        tetrisInstance.setState(tetrisInstance.getState().onPause());
+    }
+
+    @Override
+    public boolean triggerMovement(final TetrisInstance tetrisInstance, final Movement movement) {
+        if (!isTetrisInstanceRunning(tetrisInstance) || tetrisInstance.isCurrentShapeLocked()
+                || tetrisInstance.isHardDropEnabled()) {
+            return false;
+        }
+
+        if (tetrisInstance.getMovements().offer(movement)) {
+            return true;
+        }
+
+        tetrisInstance.setDroppedMovements(tetrisInstance.getDroppedMovements() + 1);
+
+        return false;
+    }
+
+    @Override
+    public boolean triggerHardDrop(final TetrisInstance tetrisInstance) {
+        if (isTetrisInstanceRunning(tetrisInstance) && !tetrisInstance.isCurrentShapeLocked()
+                && !tetrisInstance.isHardDropEnabled()) {
+            tetrisInstance.setHardDropEnabled(true);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public int getDropDistance(final TetrisInstance tetrisInstance) {
+        final Shape currentShape = tetrisInstance.getCurrentShape();
+        final ShapeRotation rotation = currentShape.getRotation();
+        final int[] gridColumns = tetrisInstance.getGridColumns();
+
+        int dropDistance = HEIGHT;
+
+        for (int i = 0; i < rotation.getBlockCount(); ++i) {
+            final int row = currentShape.getY() + rotation.getRow(i);
+            final int gridColumnBelow = gridColumns[currentShape.getX() + rotation.getColumn(i)] >>> row + 1;
+            final int blockDropDistance = gridColumnBelow == 0 ? HEIGHT - 1 - row
+                    : Integer.numberOfTrailingZeros(gridColumnBelow);
+
+            dropDistance = Math.min(dropDistance, blockDropDistance);
+        }
+
+        return dropDistance;
+    }
+
+    @Override
+    public boolean canShapeMove(final TetrisInstance tetrisInstance, final Movement movement) {
+        final Shape currentShape = tetrisInstance.getCurrentShape();
+        final ShapeRotation rotation = currentShape.getShapeType().getRotation(movement.getRotation(currentShape));
+
+        return canRotationFit(tetrisInstance, rotation, movement.getX(currentShape), movement.getY(currentShape));
+    }
+
+    @Override
+    public void copy(final TetrisInstance source, final TetrisInstance target) {
+        System.arraycopy(source.getGridRows(), 0, target.getGridRows(), 0, HEIGHT);
+        System.arraycopy(source.getGridShapeTypes(), 0, target.getGridShapeTypes(), 0, WIDTH * HEIGHT);
+        System.arraycopy(source.getGridColumns(), 0, target.getGridColumns(), 0, WIDTH);
+        System.arraycopy(source.getStatistics(), 0, target.getStatistics(), 0, source.getStatistics().length);
+
+        target.setCompleteGridRows(source.getCompleteGridRows());
+        target.setCurrentShape(copyShape(source.getCurrentShape(), target.getCurrentShape()));
+        target.setNextShape(copyShape(source.getNextShape(), target.getNextShape()));
+        target.setShapeSequence(copyShapeSequence(source.getShapeSequence(), target.getShapeSequence()));
+        target.getMovements().copyFrom(source.getMovements());
+        target.setMaxMovementsPerUpdate(source.getMaxMovementsPerUpdate());
+        target.setDroppedMovements(source.getDroppedMovements());
+        target.setLevel(source.getLevel());
+        target.setScore(source.getScore());
+        target.setCompletedRows(source.getCompletedRows());
+        target.setSpeed(source.getSpeed());
+        target.setState(source.getState());
+        target.setCurrentGravityFrame(source.getCurrentGravityFrame());
+        target.setCurrentMovementScore(source.getCurrentMovementScore());
+        target.setCurrentShapeLocked(source.isCurrentShapeLocked());
+        target.setHardDropEnabled(source.isHardDropEnabled());
+        target.setInfoVersion(source.getInfoVersion());
+        target.setStatisticsVersion(source.getStatisticsVersion());
+        target.setStackVersion(source.getStackVersion());
+        target.setStackEvent(source.getStackEvent());
+        target.setClearedGridRows(source.getClearedGridRows());
+        target.setFrame(source.getFrame());
+
+        copyShape(source.getLockedShape(), target.getLockedShape());
+        target.getTetrisEvents().clear();
+    }
+
+    private void handleHardDrop(final TetrisInstance tetrisInstance) {
+        final Shape currentShape = tetrisInstance.getCurrentShape();
+        final int dropDistance = getDropDistance(tetrisInstance);
+
+        currentShape.setY(currentShape.getY() + dropDistance);
+
+        updateScoreWithCompletedMovements(tetrisInstance, dropDistance);
+
+        checkShapeIsLocked(tetrisInstance);
+    }
+
+    private boolean handleNextShape(final TetrisInstance tetrisInstance) {
+        if (!tetrisInstance.isCurrentShapeLocked()) {
+            return true;
+        }
+
+        if (isTimeToHandleGravity(tetrisInstance)) {
+            clearCompleteRows(tetrisInstance);
+            getNextShape(tetrisInstance);
+            checkShapeIsLocked(tetrisInstance);
+
+            if (!tetrisInstance.isCurrentShapeLocked()) {
+                resetCurrentGravityFrame(tetrisInstance);
+            }
+        }
+
+        return false;
+    }
+
+    private boolean handleMovements(final TetrisInstance tetrisInstance) {
+        final MovementQueue movements = tetrisInstance.getMovements();
+        final int maxMovementsPerUpdate = tetrisInstance.getMaxMovementsPerUpdate();
+
+        for (int i = 0; i < maxMovementsPerUpdate && !movements.isEmpty(); ++i) {
+            if (!handleMovement(tetrisInstance, movements.poll())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean handleMovement(final TetrisInstance tetrisInstance, final Movement movement) {
+        final boolean isDownMovement = Movement.DOWN.equals(movement);
+
+        if (isDownMovement || canShapeMove(tetrisInstance, movement)) {
+            moveShape(tetrisInstance, movement);
+
+            if (isDownMovement) {
+                updateScoreWithCompletedMovement(tetrisInstance);
+            }
+
+            return !tetrisInstance.isCurrentShapeLocked();
+        }
+
+        return true;
+    }
+
+    private void handleGravity(final TetrisInstance tetrisInstance) {
+        if (!isTimeToHandleGravity(tetrisInstance)) {
+            return;
+        }
+
+        moveShapeDown(tetrisInstance);
+
+        resetCurrentGravityFrame(tetrisInstance);
+    }
+
+    private void checkShapeIsLocked(final TetrisInstance tetrisInstance) {
+        if (canShapeMove(tetrisInstance, Movement.DOWN)) {
+            return;
+        }
+
+        lockShape(tetrisInstance);
+        dropMovements(tetrisInstance);
+
+        if (isGameOver(tetrisInstance)) {
+            tetrisInstance.setState(State.GAME_OVER);
+            tetrisInstance.getTetrisEvents().add(TetrisEvent.GAME_OVER);
+        } else {
+            resetCurrentGravityFrame(tetrisInstance);
+            tetrisInstance.getTetrisEvents().add(TetrisEvent.SHAPE_LOCKED);
+            tetrisInstance.setCurrentShapeLocked(true);
+        }
+
+        tetrisInstance.setHardDropEnabled(false);
+    }
+
+    private void dropMovements(final TetrisInstance tetrisInstance) {
+        final MovementQueue movements = tetrisInstance.getMovements();
+
+        tetrisInstance.setDroppedMovements(tetrisInstance.getDroppedMovements() + movements.size());
+
+        movements.clear();
+    }
+
+    private void getNextShape(final TetrisInstance tetrisInstance) {
+        final Shape currentShape = tetrisInstance.getNextShape();
+
+        tetrisInstance.setCurrentShape(currentShape);
+        tetrisInstance.setCurrentShapeLocked(false);
+        tetrisInstance.setNextShape(shapeFactory.createShape(tetrisInstance.getShapeSequence()));
+
+        updateInfoVersion(tetrisInstance);
+        updateStatistics(tetrisInstance);
+    }
+
+    private void updateStatistics(final TetrisInstance tetrisInstance) {
+        final ShapeType shapeType = tetrisInstance.getCurrentShape().getShapeType();
+
+        ++tetrisInstance.getStatistics()[shapeType.ordinal()];
+
+        tetrisInstance.setStatisticsVersion(tetrisInstance.getStatisticsVersion() + 1);
+    }
+
+    private void updateInfoVersion(final TetrisInstance tetrisInstance) {
+        tetrisInstance.setInfoVersion(tetrisInstance.getInfoVersion() + 1);
+    }
+
+    private void lockShape(final TetrisInstance tetrisInstance) {
+        final Shape currentShape = tetrisInstance.getCurrentShape();
+        final ShapeRotation rotation = currentShape.getRotation();
+        final byte shapeTypeOrdinal = (byte) currentShape.getShapeType().ordinal();
+        final int[] gridRows = tetrisInstance.getGridRows();
+        final byte[] gridShapeTypes = tetrisInstance.getGridShapeTypes();
+        final int[] gridColumns = tetrisInstance.getGridColumns();
+
+        int completeGridRows = tetrisInstance.getCompleteGridRows();
+
+        for (int i = 0; i < rotation.getBlockCount(); ++i) {
+            final int column = currentShape.getX() + rotation.getColumn(i);
+            final int row = currentShape.getY() + rotation.getRow(i);
+
+            gridRows[row] |= 1 << column;
+            gridColumns[column] |= 1 << row;
+            gridShapeTypes[row * WIDTH + column] = shapeTypeOrdinal;
+
+            if (gridRows[row] == FULL_ROW) {
+                completeGridRows |= 1 << row;
+            }
+        }
+
+        tetrisInstance.setCompleteGridRows(completeGridRows);
+
+        copyShape(currentShape, tetrisInstance.getLockedShape());
+
+        updateStackVersion(tetrisInstance, TetrisEvent.SHAPE_LOCKED);
+    }
+
+    private void updateStackVersion(final TetrisInstance tetrisInstance, final TetrisEvent stackEvent) {
+        tetrisInstance.setStackVersion(tetrisInstance.getStackVersion() + 1);
+        tetrisInstance.setStackEvent(stackEvent);
+    }
+
+    private boolean isGameOver(final TetrisInstance tetrisInstance) {
+        return tetrisInstance.getGridRows()[0] != 0;
+    }
+
+    private boolean isTimeToHandleGravity(final TetrisInstance tetrisInstance) {
+        return tetrisInstance.getCurrentGravityFrame() > tetrisInstance.getSpeed();
+    }
+
+    private void clearCompleteRows(final TetrisInstance tetrisInstance) {
+        final int completeGridRows = tetrisInstance.getCompleteGridRows();
+
+        if (completeGridRows == 0) {
+            return;
+        }
+
+        compactGrid(tetrisInstance, completeGridRows);
+
+        tetrisInstance.setCompleteGridRows(0);
+        tetrisInstance.setClearedGridRows(completeGridRows);
+
+        updateStackVersion(tetrisInstance, TetrisEvent.ROWS_COMPLETED);
+
+        final int completedRows = Integer.bitCount(completeGridRows);
+
+        tetrisInstance.setCompletedRows(tetrisInstance.getCompletedRows() + completedRows);
+
+        updateScoreWithCompletedRows(tetrisInstance, completedRows);
+        updateLevel(tetrisInstance);
+        updateInfoVersion(tetrisInstance);
+
+        tetrisInstance.getTetrisEvents().add(TetrisEvent.ROWS_COMPLETED);
+    }
+
+    private void updateLevel(final TetrisInstance tetrisInstance) {
+        final int completedRows = tetrisInstance.getCompletedRows();
+        final int nextLevel = tetrisInstance.getLevel() + 1;
+
+        if (completedRows >= ROWS_PER_LEVEL * nextLevel) {
+            tetrisInstance.setLevel(nextLevel);
+
+            final int speed = getLevelSpeed(nextLevel);
+
+            tetrisInstance.setSpeed(speed);
+        }
+    }
+
+    private void updateScoreWithCompletedRows(final TetrisInstance tetrisInstance, final int completedRows) {
+        final int rowsScore = scorePerRows[completedRows];
+        final int score = tetrisInstance.getScore();
+
+        tetrisInstance.setScore(score + rowsScore * (tetrisInstance.getLevel() + 1));
+    }
+
+    private void updateScoreWithCompletedMovement(final TetrisInstance tetrisInstance) {
+        updateScoreWithCompletedMovements(tetrisInstance, 1);
+    }
+
+    private void updateScoreWithCompletedMovements(final TetrisInstance tetrisInstance, final int movements) {
+        if (movements == 0) {
+            return;
+        }
+
+        tetrisInstance.setScore(tetrisInstance.getScore() + movements);
+
+        updateInfoVersion(tetrisInstance);
+    }
+
+    private void compactGrid(final TetrisInstance tetrisInstance, final int completeGridRows) {
+        final int[] gridRows = tetrisInstance.getGridRows();
+        final byte[] gridShapeTypes = tetrisInstance.getGridShapeTypes();
+
+        int targetRow = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(completeGridRows);
+
+        for (int row = targetRow - 1; row >= 0; --row) {
+            if ((completeGridRows & 1 << row) == 0) {
+                gridRows[targetRow] = gridRows[row];
+                System.arraycopy(gridShapeTypes, row * WIDTH, gridShapeTypes, targetRow * WIDTH, WIDTH);
+                --targetRow;
+            }
+        }
+
+        Arrays.fill(gridRows, 0, targetRow + 1, 0);
+
+        updateGridColumns(tetrisInstance);
+    }
+
+    private void updateGridColumns(final TetrisInstance tetrisInstance) {
+        final int[] gridRows = tetrisInstance.getGridRows();
+        final int[] gridColumns = tetrisInstance.getGridColumns();
+
+        Arrays.fill(gridColumns, 0);
+
+        for (int row = 0; row < HEIGHT; ++row) {
+            for (int gridRow = gridRows[row]; gridRow != 0; gridRow &= gridRow - 1) {
+                gridColumns[Integer.numberOfTrailingZeros(gridRow)] |= 1 << row;
+            }
+        }
+    }
+
+    private void moveShape(final TetrisInstance tetrisInstance, final Movement movement) {
+        movement.apply(tetrisInstance.getCurrentShape());
+
+        checkShapeIsLocked(tetrisInstance);
+    }
+
+    private boolean canRotationFit(final TetrisInstance tetrisInstance, final ShapeRotation rotation, final int x,
+            final int y) {
+        if (x + rotation.getMinColumn() < 0 || x + rotation.getMaxColumn() >= WIDTH
+                || y + rotation.getMinRow() < 0 || y + rotation.getMaxRow() >= HEIGHT) {
+            return false;
+        }
+
+        final int[] gridRows = tetrisInstance.getGridRows();
+
+        for (int row = rotation.getMinRow(); row <= rotation.getMaxRow(); ++row) {
+            if ((gridRows[y + row] & rotation.getRowMask(row, x)) != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isTetrisInstanceRunning(final TetrisInstance tetrisInstance) {
+        return isTetrisInstanceState(tetrisInstance, State.RUNNING);
+    }
+
+    private boolean isTetrisInstanceState(final TetrisInstance tetrisInstance, final State state) {
+        return state.equals(tetrisInstance.getState());
+    }
+
+    private void resetCurrentGravityFrame(final TetrisInstance tetrisInstance) {
+        tetrisInstance.setCurrentGravityFrame(0);
+    }
+
+    private static int[] createLevelSpeeds() {
+        final int initialSpeed = 48;
+
+        final int[] levelSpeeds = new int[MAX_LEVEL_SPEED_LEVEL];
+
+        levelSpeeds[0] = initialSpeed;
+        levelSpeeds[9] = 6;
+
+        for (int level = 1; level < 9; ++level) {
+            levelSpeeds[level] = initialSpeed - 5 * level;
+        }
+
+        Arrays.fill(levelSpeeds, 10, 13, 5);
+        Arrays.fill(levelSpeeds, 13, 16, 4);
+        Arrays.fill(levelSpeeds, 16, 19, 3);
+        Arrays.fill(levelSpeeds, 19, MAX_LEVEL_SPEED_LEVEL, 2);
+
+        return levelSpeeds;
+    }
+
+    private int getLevelSpeed(final int level) {
+        return level < MAX_LEVEL_SPEED_LEVEL ? levelSpeeds[level] : 1;
+    }
+
+    private Shape copyShape(final Shape source, final Shape target) {
+        if (source == null) {
+            return null;
+        }
+
+        final Shape shape = target == null ? Shape.Builder.instance().build() : target;
+
+        shape.setShapeType(source.getShapeType());
+        shape.setCurrentRotation(source.getCurrentRotation());
+        shape.setX(source.getX());
+        shape.setY(source.getY());
+
+        return shape;
+    }
+
+    private ShapeSequence copyShapeSequence(final ShapeSequence source, final ShapeSequence target) {
+        if (source == null) {
+            return null;
+        }
+
+        if (target == null) {
+            return new ShapeSequence(source);
+        }
+
+        target.copyFrom(source);
+
+        return target;
+    }
+
+    private void moveShapeDown(final TetrisInstance tetrisInstance) {
+        moveShape(tetrisInstance, Movement.DOWN);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.engine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import spypunk.tetris.factory.TetrisEngineFactoryImpl;
+import spypunk.tetris.model.Shape;
+import spypunk.tetris.model.ShapeRandomizer;
+import spypunk.tetris.model.TetrisInstance;
+
+public class TetrisEngineImplTest {
+
+    private static final long SEED = 42;
+
+    private static final int SNAPSHOT_FRAME = 600;
+
+    private static final int FRAMES = 1500;
+
+    private static final int INPUT_BOUND = 64;
+
+    private static final int HARD_DROP_INPUT = 16;
+
+    @Test
+    public void testRestoreRewindsTheFrameAndReplaysTheSameGame() {
+        final TetrisEngine tetrisEngine = new TetrisEngineFactoryImpl().createTetrisEngine(SEED,
+            ShapeRandomizer.BAG);
+
+        step(tetrisEngine, SNAPSHOT_FRAME);
+
+        final TetrisInstance snapshot = tetrisEngine.createSnapshot();
+
+        step(tetrisEngine, FRAMES);
+
+        final TetrisInstance original = tetrisEngine.createSnapshot();
+
+        tetrisEngine.restore(snapshot);
+
+        assertEquals(SNAPSHOT_FRAME, tetrisEngine.getFrame());
+
+        step(tetrisEngine, FRAMES);
+
+        assertEquals(FRAMES, tetrisEngine.getFrame());
+        assertSameState(original, tetrisEngine.getTetrisInstance());
+    }
+
+    private static void step(final TetrisEngine tetrisEngine, final int frames) {
+        while (tetrisEngine.getFrame() < frames) {
+            tetrisEngine.step(getInputs(tetrisEngine.getFrame()));
+        }
+    }
+
+    private static int getInputs(final long frame) {
+        final int inputs = new Random(SEED + frame).nextInt(INPUT_BOUND);
+
+        if (inputs == HARD_DROP_INPUT) {
+            return TetrisEngineInput.HARD_DROP.getMask();
+        }
+
+        return inputs < HARD_DROP_INPUT ? inputs : TetrisEngineInput.NONE;
+    }
+
+    private static void assertSameState(final TetrisInstance expected, final TetrisInstance actual) {
+        assertEquals(expected.getFrame(), actual.getFrame());
+        assertArrayEquals(expected.getGridRows(), actual.getGridRows());
+        assertArrayEquals(expected.getGridShapeTypes(), actual.getGridShapeTypes());
+        assertArrayEquals(expected.getStatistics(), actual.getStatistics());
+        assertEquals(expected.getScore(), actual.getScore());
+        assertEquals(expected.getLevel(), actual.getLevel());
+        assertEquals(expected.getCompletedRows(), actual.getCompletedRows());
+        assertEquals(expected.getState(), actual.getState());
+        assertEquals(expected.getCurrentGravityFrame(), actual.getCurrentGravityFrame());
+        assertSameShape(expected.getCurrentShape(), actual.getCurrentShape());
+        assertSameShape(expected.getNextShape(), actual.getNextShape());
+    }
+
+    private static void assertSameShape(final Shape expected, final Shape actual) {
+        assertEquals(expected.getShapeType(), actual.getShapeType());
+        assertEquals(expected.getCurrentRotation(), actual.getCurrentRotation());
+        assertEquals(expected.getX(), actual.getX());
+        assertEquals(expected.getY(), actual.getY());
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static spypunk.tetris.constants.TetrisConstants.HEIGHT;
+import static spypunk.tetris.constants.TetrisConstants.WIDTH;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import spypunk.tetris.factory.ShapeFactoryImpl;
+import spypunk.tetris.model.Movement;
+import spypunk.tetris.model.Shape;
+import spypunk.tetris.model.ShapeRandomizer;
+import spypunk.tetris.model.ShapeRotation;
+import spypunk.tetris.model.ShapeType;
+import spypunk.tetris.model.TetrisEvent;
+import spypunk.tetris.model.TetrisInstance;
+import spypunk.tetris.model.TetrisInstance.State;
+
+public class TetrisInstanceServiceImplTest {
+
+    private static final long SEED = 42;
+
+    private static final int WARM_UP_TICKS = 200_000;
+
+    private static final int FALLING_TICKS = 500;
+
+    private static final int CLEARED_ROWS = 4;
+
+    private static final int FULL_ROW = (1 << WIDTH) - 1;
+
+    private static final long NEXT_SHAPE_BUDGET = 128;
+
+    private static final ThreadMXBean THREAD_MX_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final TetrisInstanceService TETRIS_INSTANCE_SERVICE = new TetrisInstanceServiceImpl(
+            new ShapeFactoryImpl());
+
+    private static long measurementOverhead;
+
+    @BeforeClass
+    public static void warmUp() {
+        final Random random = new Random(SEED);
+        final Movement[] movements = Movement.values();
+
+        TetrisInstance tetrisInstance = TETRIS_INSTANCE_SERVICE.create(SEED, ShapeRandomizer.BAG);
+
+        for (int tick = 0; tick < WARM_UP_TICKS; ++tick) {
+            if (State.GAME_OVER.equals(tetrisInstance.getState())) {
+                tetrisInstance = TETRIS_INSTANCE_SERVICE.create(random.nextLong(), ShapeRandomizer.BAG);
+            }
+
+            if (random.nextInt(100) == 0) {
+                TETRIS_INSTANCE_SERVICE.triggerHardDrop(tetrisInstance);
+            } else {
+                TETRIS_INSTANCE_SERVICE.triggerMovement(tetrisInstance, movements[random.nextInt(movements.length)]);
+            }
+
+            TETRIS_INSTANCE_SERVICE.update(tetrisInstance);
+        }
+
+        measurementOverhead = measureAllocatedBytes(() -> {
+        });
+    }
+
+    @Test
+    public void testFallingTicksDoNotAllocate() {
+        final TetrisInstance tetrisInstance = TETRIS_INSTANCE_SERVICE.create(SEED, ShapeRandomizer.BAG);
+
+        final long allocatedBytes = measureAllocatedBytes(() -> {
+            for (int tick = 0; tick < FALLING_TICKS; ++tick) {
+                TETRIS_INSTANCE_SERVICE.triggerMovement(tetrisInstance,
+                    tick % 2 == 0 ? Movement.LEFT : Movement.RIGHT);
+                TETRIS_INSTANCE_SERVICE.update(tetrisInstance);
+            }
+        });
+
+        assertFalse(tetrisInstance.isCurrentShapeLocked());
+        assertEquals(0, allocatedBytes);
+    }
+
+    @Test
+    public void testLockTickAllocatesAtMostTheNextShape() {
+        final TetrisInstance tetrisInstance = TETRIS_INSTANCE_SERVICE.create(SEED, ShapeRandomizer.BAG);
+
+        TETRIS_INSTANCE_SERVICE.triggerHardDrop(tetrisInstance);
+
+        final long lockAllocatedBytes = measureAllocatedBytes(() -> TETRIS_INSTANCE_SERVICE.update(tetrisInstance));
+
+        assertTrue(tetrisInstance.getTetrisEvents().contains(TetrisEvent.SHAPE_LOCKED));
+        assertBudget(lockAllocatedBytes);
+
+        final Shape nextShape = tetrisInstance.getNextShape();
+
+        tetrisInstance.setCurrentGravityFrame(tetrisInstance.getSpeed());
+
+        final long spawnAllocatedBytes = measureAllocatedBytes(() -> TETRIS_INSTANCE_SERVICE.update(tetrisInstance));
+
+        assertTrue(nextShape == tetrisInstance.getCurrentShape());
+        assertBudget(spawnAllocatedBytes);
+    }
+
+    @Test
+    public void testMultiRowClearTickAllocatesAtMostTheNextShape() {
+        final TetrisInstance tetrisInstance = createMultiRowClearTetrisInstance();
+
+        final long lockAllocatedBytes = measureAllocatedBytes(() -> TETRIS_INSTANCE_SERVICE.update(tetrisInstance));
+
+        assertEquals(CLEARED_ROWS, Integer.bitCount(tetrisInstance.getCompleteGridRows()));
+        assertBudget(lockAllocatedBytes);
+
+        tetrisInstance.setCurrentGravityFrame(tetrisInstance.getSpeed());
+
+        final long clearAllocatedBytes = measureAllocatedBytes(() -> TETRIS_INSTANCE_SERVICE.update(tetrisInstance));
+
+        assertTrue(tetrisInstance.getTetrisEvents().contains(TetrisEvent.ROWS_COMPLETED));
+        assertEquals(CLEARED_ROWS, tetrisInstance.getCompletedRows());
+        assertBudget(clearAllocatedBytes);
+    }
+
+    @Test
+    public void testMovementsQueuedPastALockAreCountedAsDropped() {
+        final TetrisInstance tetrisInstance = TETRIS_INSTANCE_SERVICE.create(SEED, ShapeRandomizer.BAG);
+        final Shape currentShape = tetrisInstance.getCurrentShape();
+
+        currentShape.setY(currentShape.getY() + TETRIS_INSTANCE_SERVICE.getDropDistance(tetrisInstance) - 1);
+
+        TETRIS_INSTANCE_SERVICE.triggerMovement(tetrisInstance, Movement.DOWN);
+        TETRIS_INSTANCE_SERVICE.triggerMovement(tetrisInstance, Movement.RIGHT);
+        TETRIS_INSTANCE_SERVICE.triggerMovement(tetrisInstance, Movement.DOWN);
+        TETRIS_INSTANCE_SERVICE.triggerMovement(tetrisInstance, Movement.ROTATE_CW);
+
+        TETRIS_INSTANCE_SERVICE.update(tetrisInstance);
+
+        assertTrue(tetrisInstance.isCurrentShapeLocked());
+        assertTrue(tetrisInstance.getMovements().isEmpty());
+        assertEquals(3, tetrisInstance.getDroppedMovements());
+
+        final Shape nextShape = tetrisInstance.getNextShape();
+        final int spawnX = nextShape.getX();
+        final int spawnY = nextShape.getY();
+        final int spawnRotation = nextShape.getCurrentRotation();
+
+        tetrisInstance.setCurrentGravityFrame(tetrisInstance.getSpeed());
+
+        TETRIS_INSTANCE_SERVICE.update(tetrisInstance);
+        TETRIS_INSTANCE_SERVICE.update(tetrisInstance);
+
+        assertTrue(nextShape == tetrisInstance.getCurrentShape());
+        assertEquals(spawnX, nextShape.getX());
+        assertEquals(spawnY, nextShape.getY());
+        assertEquals(spawnRotation, nextShape.getCurrentRotation());
+    }
+
+    @Test
+    public void testMovementsOfferedToAFullQueueAreCountedAsDropped() {
+        final TetrisInstance tetrisInstance = TETRIS_INSTANCE_SERVICE.create(SEED, ShapeRandomizer.BAG);
+        final int capacity = tetrisInstance.getMovements().capacity();
+
+        for (int i = 0; i < capacity; ++i) {
+            assertTrue(TETRIS_INSTANCE_SERVICE.triggerMovement(tetrisInstance, Movement.ROTATE_CW));
+        }
+
+        assertFalse(TETRIS_INSTANCE_SERVICE.triggerMovement(tetrisInstance, Movement.ROTATE_CW));
+        assertEquals(1, tetrisInstance.getDroppedMovements());
+        assertEquals(capacity, tetrisInstance.getMovements().size());
+    }
+
+    @Test
+    public void testDropDistanceMatchesStepwiseDrop() {
+        final Random random = new Random(SEED);
+        final Movement[] movements = Movement.values();
+
+        TetrisInstance tetrisInstance = TETRIS_INSTANCE_SERVICE.create(SEED, ShapeRandomizer.BAG);
+
+        for (int tick = 0; tick < WARM_UP_TICKS / 10; ++tick) {
+            if (State.GAME_OVER.equals(tetrisInstance.getState())) {
+                tetrisInstance = TETRIS_INSTANCE_SERVICE.create(random.nextLong(), ShapeRandomizer.BAG);
+            }
+
+            if (!tetrisInstance.isCurrentShapeLocked()) {
+                assertEquals(getStepwiseDropDistance(tetrisInstance),
+                    TETRIS_INSTANCE_SERVICE.getDropDistance(tetrisInstance));
+            }
+
+            if (random.nextInt(20) == 0) {
+                TETRIS_INSTANCE_SERVICE.triggerHardDrop(tetrisInstance);
+            } else {
+                TETRIS_INSTANCE_SERVICE.triggerMovement(tetrisInstance, movements[random.nextInt(movements.length)]);
+            }
+
+            TETRIS_INSTANCE_SERVICE.update(tetrisInstance);
+        }
+    }
+
+    private static int getStepwiseDropDistance(final TetrisInstance tetrisInstance) {
+        final Shape currentShape = tetrisInstance.getCurrentShape();
+        final int y = currentShape.getY();
+
+        while (TETRIS_INSTANCE_SERVICE.canShapeMove(tetrisInstance, Movement.DOWN)) {
+            currentShape.setY(currentShape.getY() + 1);
+        }
+
+        final int dropDistance = currentShape.getY() - y;
+
+        currentShape.setY(y);
+
+        return dropDistance;
+    }
+
+    private static TetrisInstance createMultiRowClearTetrisInstance() {
+        final TetrisInstance tetrisInstance = TETRIS_INSTANCE_SERVICE.create(SEED, ShapeRandomizer.BAG);
+        final int hole = new Random(SEED).nextInt(WIDTH);
+
+        for (int row = HEIGHT - CLEARED_ROWS; row < HEIGHT; ++row) {
+            tetrisInstance.getGridRows()[row] = FULL_ROW & ~(1 << hole);
+
+            for (int column = 0; column < WIDTH; ++column) {
+                if (column != hole) {
+                    tetrisInstance.getGridColumns()[column] |= 1 << row;
+                }
+            }
+        }
+
+        final int verticalRotation = getVerticalRotation(ShapeType.I);
+        final ShapeRotation rotation = ShapeType.I.getRotation(verticalRotation);
+
+        tetrisInstance.setCurrentShape(Shape.Builder.instance().setShapeType(ShapeType.I)
+                .setCurrentRotation(verticalRotation).setX(hole - rotation.getMinColumn())
+                .setY(-rotation.getMinRow()).build());
+
+        TETRIS_INSTANCE_SERVICE.triggerHardDrop(tetrisInstance);
+
+        return tetrisInstance;
+    }
+
+    private static int getVerticalRotation(final ShapeType shapeType) {
+        for (int i = 0; i < shapeType.getRotationCount(); ++i) {
+            final ShapeRotation rotation = shapeType.getRotation(i);
+
+            if (rotation.getMinColumn() == rotation.getMaxColumn()) {
+                return i;
+            }
+        }
+
+        throw new IllegalArgumentException(shapeType.name());
+    }
+
+    private static void assertBudget(final long allocatedBytes) {
+        assertTrue(allocatedBytes + " bytes allocated, budget is " + NEXT_SHAPE_BUDGET,
+            allocatedBytes <= NEXT_SHAPE_BUDGET);
+    }
+
+    private static long measureAllocatedBytes(final Runnable runnable) {
+        final long threadId = Thread.currentThread().getId();
+        final long start = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+
+        runnable.run();
+
+        return THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - start - measurementOverhead;
+    }
+}
@@ -23,6 +23,7 @@ import com.google.inject.ProvisionException;
 
 import spypunk.tetris.guice.TetrisModule;
 import spypunk.tetris.ui.controller.TetrisController;
+import spypunk.tetris.ui.util.StartupMilestone;
 import spypunk.tetris.ui.util.SwingUtils;
 
 public final class Main {
@@ -46,8 +47,14 @@ public final class Main {
     }
 
     public static void main(final String[] args) {
+        StartupMilestone.JVM_START.reach();
+        StartupMilestone.MAIN.reach();
+
         try {
             final Injector injector = Guice.createInjector(new TetrisModule());
+
+            StartupMilestone.INJECTOR_CREATED.reach();
+
             injector.getInstance(TetrisController.class).start();
         } catch (CreationException | ConfigurationException | ProvisionException e) {
             LOGGER.error(e.getMessage(), e);
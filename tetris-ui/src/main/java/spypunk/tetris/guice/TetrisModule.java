@@ -12,6 +12,8 @@ import com.google.inject.AbstractModule;
 
 import spypunk.tetris.factory.ShapeFactory;
 import spypunk.tetris.factory.ShapeFactoryImpl;
+import spypunk.tetris.factory.TetrisEngineFactory;
+import spypunk.tetris.factory.TetrisEngineFactoryImpl;
 import spypunk.tetris.factory.TetrisFactory;
 import spypunk.tetris.factory.TetrisFactoryImpl;
 import spypunk.tetris.service.TetrisInstanceService;
@@ -30,12 +32,16 @@ import spypunk.tetris.ui.controller.gameloop.TetrisControllerGameLoop;
 import spypunk.tetris.ui.controller.gameloop.TetrisControllerGameLoopImpl;
 import spypunk.tetris.ui.controller.input.TetrisControllerInputHandler;
 import spypunk.tetris.ui.controller.input.TetrisControllerInputHandlerImpl;
+import spypunk.tetris.ui.controller.timing.TetrisControllerTimings;
+import spypunk.tetris.ui.controller.timing.TetrisControllerTimingsImpl;
 import spypunk.tetris.ui.factory.TetrisControllerCommandFactory;
 import spypunk.tetris.ui.factory.TetrisControllerCommandFactoryImpl;
 import spypunk.tetris.ui.factory.TetrisViewFactory;
 import spypunk.tetris.ui.factory.TetrisViewFactoryImpl;
 import spypunk.tetris.ui.font.cache.FontCache;
 import spypunk.tetris.ui.font.cache.FontCacheImpl;
+import spypunk.tetris.ui.font.renderer.TextRenderer;
+import spypunk.tetris.ui.font.renderer.TextRendererImpl;
 
 public class TetrisModule extends AbstractModule {
 
@@ -45,14 +51,17 @@ public class TetrisModule extends AbstractModule {
         bind(ShapeFactory.class).to(ShapeFactoryImpl.class);
         bind(TetrisController.class).to(TetrisControllerImpl.class);
         bind(TetrisViewFactory.class).to(TetrisViewFactoryImpl.class);
-        bind(ImageCache.class).to(ImageCacheImpl.class);
         bind(TetrisFactory.class).to(TetrisFactoryImpl.class);
-        bind(FontCache.class).to(FontCacheImpl.class);
+        bind(TetrisEngineFactory.class).to(TetrisEngineFactoryImpl.class);
+        bind(FontCache.class).to(FontCacheImpl.class).asEagerSingleton();
+        bind(TextRenderer.class).to(TextRendererImpl.class);
         bind(TetrisControllerCommandFactory.class).to(TetrisControllerCommandFactoryImpl.class);
         bind(SoundService.class).to(SoundServiceImpl.class);
-        bind(SoundClipCache.class).to(SoundClipCacheImpl.class);
+        bind(SoundClipCache.class).to(SoundClipCacheImpl.class).asEagerSingleton();
+        bind(ImageCache.class).to(ImageCacheImpl.class).asEagerSingleton();
         bind(TetrisControllerInputHandler.class).to(TetrisControllerInputHandlerImpl.class);
         bind(TetrisControllerTetrisEventHandler.class).to(TetrisControllerTetrisEventHandlerImpl.class);
         bind(TetrisControllerGameLoop.class).to(TetrisControllerGameLoopImpl.class);
+        bind(TetrisControllerTimings.class).to(TetrisControllerTimingsImpl.class);
     }
 }
@@ -18,4 +18,6 @@ public interface SoundClipCache {
     SoundClip getSoundClip(Sound sound);
 
     Collection<SoundClip> getAllSoundClips();
+
+    void onLoaded(Runnable runnable);
 }
@@ -13,8 +13,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collection;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 import javax.inject.Singleton;
 import javax.sound.sampled.AudioInputStream;
@@ -31,6 +30,8 @@ import spypunk.tetris.sound.Sound;
 import spypunk.tetris.sound.SoundClip;
 import spypunk.tetris.sound.SoundClipImpl;
 import spypunk.tetris.sound.service.SoundServiceImpl;
+import spypunk.tetris.ui.util.StartupExecutor;
+import spypunk.tetris.ui.util.StartupMilestone;
 
 @Singleton
 public class SoundClipCacheImpl implements SoundClipCache {
@@ -39,16 +40,25 @@ public class SoundClipCacheImpl implements SoundClipCache {
 
     private static final String SOUNDS_FOLDER = "/sound/".intern();
 
-    private final Map<Sound, SoundClip> soundClips = createSoundClips();
+    private final CompletableFuture<Map<Sound, SoundClip>> soundClips = createSoundClips();
+
+    public SoundClipCacheImpl() {
+        soundClips.thenRun(StartupMilestone.SOUND_CLIPS_LOADED::reach);
+    }
 
     @Override
     public SoundClip getSoundClip(final Sound sound) {
-        return soundClips.get(sound);
+        return soundClips.join().get(sound);
     }
 
     @Override
     public Collection<SoundClip> getAllSoundClips() {
-        return soundClips.values();
+        return soundClips.join().values();
+    }
+
+    @Override
+    public void onLoaded(final Runnable runnable) {
+        soundClips.thenRun(runnable);
     }
 
     private static SoundClip createSoundClip(final Sound sound) {
@@ -64,8 +74,14 @@ public class SoundClipCacheImpl implements SoundClipCache {
         }
     }
 
-    private static Map<Sound, SoundClip> createSoundClips() {
-        return Lists.newArrayList(Sound.values()).stream()
-                .collect(Collectors.toMap(Function.identity(), SoundClipCacheImpl::createSoundClip));
+    private static CompletableFuture<Map<Sound, SoundClip>> createSoundClips() {
+        return StartupExecutor.supplyAllAsync(Lists.newArrayList(Sound.values()), SoundClipCacheImpl::createSoundClip)
+                .whenComplete(SoundClipCacheImpl::onSoundClipsCreated);
+    }
+
+    private static void onSoundClipsCreated(final Map<Sound, SoundClip> soundClips, final Throwable throwable) {
+        if (throwable != null) {
+            LOGGER.warn("Cannot load sounds, sound is disabled : " + throwable.getMessage(), throwable);
+        }
     }
 }
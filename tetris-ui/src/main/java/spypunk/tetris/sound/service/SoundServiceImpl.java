@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.sound.service;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import spypunk.tetris.sound.Sound;
+import spypunk.tetris.sound.SoundClip;
+import spypunk.tetris.sound.cache.SoundClipCache;
+
+@Singleton
+public class SoundServiceImpl implements SoundService {
+
+    private final SoundClipCache soundClipCache;
+
+    private SoundClip currentMusicSoundClip;
+
+    private Sound currentMusic;
+
+    private boolean musicPaused;
+
+    private boolean mute;
+
+    private boolean loaded;
+
+    @Inject
+    public SoundServiceImpl(final SoundClipCache soundClipCache) {
+        this.soundClipCache = soundClipCache;
+
+        soundClipCache.onLoaded(this::onSoundClipsLoaded);
+    }
+
+    @Override
+    public synchronized void playMusic(final Sound sound) {
+        doPlayMusic(sound);
+    }
+
+    @Override
+    public synchronized void pauseMusic() {
+        doPauseMusic();
+    }
+
+    @Override
+    public synchronized void stopMusic() {
+        if (currentMusicSoundClip != null) {
+            currentMusicSoundClip.stop();
+            currentMusicSoundClip = null;
+        }
+
+        currentMusic = null;
+        musicPaused = false;
+    }
+
+    @Override
+    public synchronized void playSound(final Sound sound) {
+        if (loaded) {
+            doPlaySound(sound);
+        }
+    }
+
+    @Override
+    public synchronized void mute() {
+        mute = !mute;
+
+        if (loaded) {
+            soundClipCache.getAllSoundClips().forEach(SoundClip::mute);
+        }
+    }
+
+    @Override
+    public synchronized void increaseVolume() {
+        if (loaded) {
+            soundClipCache.getAllSoundClips().forEach(SoundClip::increaseVolume);
+        }
+    }
+
+    @Override
+    public synchronized void decreaseVolume() {
+        if (loaded) {
+            soundClipCache.getAllSoundClips().forEach(SoundClip::decreaseVolume);
+        }
+    }
+
+    @Override
+    public synchronized boolean isMute() {
+        return mute;
+    }
+
+    private synchronized void onSoundClipsLoaded() {
+        loaded = true;
+
+        if (mute) {
+            soundClipCache.getAllSoundClips().forEach(SoundClip::mute);
+        }
+
+        if (currentMusic != null) {
+            startMusic();
+        }
+    }
+
+    private void doPlaySound(final Sound sound) {
+        final SoundClip clip = soundClipCache.getSoundClip(sound);
+
+        clip.stop();
+        clip.play();
+    }
+
+    private void doPlayMusic(final Sound sound) {
+        stopMusic();
+
+        currentMusic = sound;
+
+        if (loaded) {
+            startMusic();
+        }
+    }
+
+    private void doPauseMusic() {
+        if (currentMusic == null) {
+            return;
+        }
+
+        musicPaused = !musicPaused;
+
+        if (currentMusicSoundClip != null) {
+            currentMusicSoundClip.pause();
+        }
+    }
+
+    private void startMusic() {
+        currentMusicSoundClip = soundClipCache.getSoundClip(currentMusic);
+
+        if (musicPaused) {
+            currentMusicSoundClip.pause();
+        } else {
+            currentMusicSoundClip.play();
+        }
+    }
+}
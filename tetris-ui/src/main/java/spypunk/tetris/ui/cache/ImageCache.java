@@ -20,4 +20,6 @@ public interface ImageCache {
     Image getBlockImage(ShapeType shapeType);
 
     Image getShapeImage(ShapeType shapeType);
+
+    Image getSmallShapeImage(ShapeType shapeType);
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.ui.cache;
+
+import static spypunk.tetris.ui.constants.TetrisUIConstants.BLOCK_SIZE;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import javax.imageio.ImageIO;
+import javax.inject.Singleton;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.Lists;
+
+import spypunk.tetris.exception.TetrisException;
+import spypunk.tetris.model.ShapeType;
+import spypunk.tetris.ui.icon.Icon;
+import spypunk.tetris.ui.util.StartupExecutor;
+import spypunk.tetris.ui.util.StartupMilestone;
+import spypunk.tetris.ui.util.SwingUtils;
+
+@Singleton
+public class ImageCacheImpl implements ImageCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImageCacheImpl.class);
+
+    private static final String IMAGE_FILE_PATTERN = "%s%s.png";
+
+    private static final String ICONS_FOLDER = "/img/icons/".intern();
+
+    private static final String BLOCKS_FOLDER = "/img/blocks/".intern();
+
+    private static final String SHAPES_FOLDER = "/img/shapes/".intern();
+
+    private static final double SMALL_SHAPE_RATIO = 0.5;
+
+    private final Map<Icon, Image> icons;
+
+    private final Map<ShapeType, Image> blockImages;
+
+    private final Map<ShapeType, Image> shapeImages;
+
+    private final Map<ShapeType, Image> smallShapeImages;
+
+    public ImageCacheImpl() {
+        final CompletableFuture<Map<Icon, Image>> iconsFuture = createIcons();
+        final CompletableFuture<Map<ShapeType, Image>> blockImagesFuture = createBlockImages();
+        final CompletableFuture<Map<ShapeType, Image>> shapeImagesFuture = createShapeImages(1);
+        final CompletableFuture<Map<ShapeType, Image>> smallShapeImagesFuture = createShapeImages(
+            SMALL_SHAPE_RATIO);
+
+        icons = iconsFuture.join();
+        blockImages = blockImagesFuture.join();
+        shapeImages = shapeImagesFuture.join();
+        smallShapeImages = smallShapeImagesFuture.join();
+
+        StartupMilestone.IMAGES_LOADED.reach();
+    }
+
+    @Override
+    public Image getIcon(final Icon icon) {
+        return icons.get(icon);
+    }
+
+    @Override
+    public Image getBlockImage(final ShapeType shapeType) {
+        return blockImages.get(shapeType);
+    }
+
+    @Override
+    public Image getShapeImage(final ShapeType shapeType) {
+        return shapeImages.get(shapeType);
+    }
+
+    @Override
+    public Image getSmallShapeImage(final ShapeType shapeType) {
+        return smallShapeImages.get(shapeType);
+    }
+
+    private static Image createImage(final String imageFolder, final ShapeType shapeType, final double ratio) {
+        final BufferedImage image = readImage(imageFolder, shapeType.name());
+
+        return SwingUtils.createCompatibleImage(image, (int) (image.getWidth() * ratio),
+            (int) (image.getHeight() * ratio));
+    }
+
+    private static Image createBlockImage(final ShapeType shapeType) {
+        final BufferedImage image = readImage(BLOCKS_FOLDER, shapeType.name());
+
+        return SwingUtils.createCompatibleImage(image, BLOCK_SIZE, BLOCK_SIZE);
+    }
+
+    private static Image createIcon(final Icon icon) {
+        final BufferedImage image = readImage(ICONS_FOLDER, icon.name().toLowerCase());
+
+        return SwingUtils.createCompatibleImage(image, image.getWidth(), image.getHeight());
+    }
+
+    private static BufferedImage readImage(final String imageFolder, final String fileName) {
+        final String resourceName = String.format(IMAGE_FILE_PATTERN, imageFolder, fileName);
+
+        try (InputStream inputStream = ImageCacheImpl.class.getResourceAsStream(resourceName)) {
+            return ImageIO.read(inputStream);
+        } catch (final IOException e) {
+            LOGGER.error(e.getMessage(), e);
+            throw new TetrisException(e);
+        }
+    }
+
+    private static CompletableFuture<Map<Icon, Image>> createIcons() {
+        return StartupExecutor.supplyAllAsync(Lists.newArrayList(Icon.values()), ImageCacheImpl::createIcon);
+    }
+
+    private static CompletableFuture<Map<ShapeType, Image>> createShapeImages(final double ratio) {
+        return StartupExecutor.supplyAllAsync(Lists.newArrayList(ShapeType.values()),
+            shapeType -> createImage(SHAPES_FOLDER, shapeType, ratio));
+    }
+
+    private static CompletableFuture<Map<ShapeType, Image>> createBlockImages() {
+        return StartupExecutor.supplyAllAsync(Lists.newArrayList(ShapeType.values()),
+            ImageCacheImpl::createBlockImage);
+    }
+}
@@ -25,4 +25,6 @@ public interface TetrisController {
     TetrisView getTetrisView();
 
     void onGameLoopUpdate();
+
+    void onGameLoopRender(double interpolation);
 }
@@ -25,6 +25,8 @@ import spypunk.tetris.ui.controller.command.TetrisControllerCommand;
 import spypunk.tetris.ui.controller.event.TetrisControllerTetrisEventHandler;
 import spypunk.tetris.ui.controller.gameloop.TetrisControllerGameLoop;
 import spypunk.tetris.ui.controller.input.TetrisControllerInputHandler;
+import spypunk.tetris.ui.controller.timing.TetrisControllerTimings;
+import spypunk.tetris.ui.controller.timing.TimingType;
 import spypunk.tetris.ui.factory.TetrisViewFactory;
 import spypunk.tetris.ui.util.SwingUtils;
 import spypunk.tetris.ui.view.TetrisView;
@@ -44,15 +46,19 @@ public class TetrisControllerImpl implements TetrisController {
 
     private final TetrisControllerTetrisEventHandler tetrisControllerTetrisEventHandler;
 
+    private final TetrisControllerTimings tetrisControllerTimings;
+
     @Inject
     public TetrisControllerImpl(final TetrisFactory tetrisFactory, final TetrisViewFactory tetrisViewFactory,
             final TetrisControllerGameLoop tetrisControllerGameLoop, final TetrisInstanceService tetrisInstanceService,
             final TetrisControllerInputHandler tetrisControllerInputHandler,
-            final TetrisControllerTetrisEventHandler tetrisControllerTetrisEventHandler) {
+            final TetrisControllerTetrisEventHandler tetrisControllerTetrisEventHandler,
+            final TetrisControllerTimings tetrisControllerTimings) {
         this.tetrisInstanceService = tetrisInstanceService;
         this.tetrisControllerInputHandler = tetrisControllerInputHandler;
         this.tetrisControllerTetrisEventHandler = tetrisControllerTetrisEventHandler;
         this.tetrisControllerGameLoop = tetrisControllerGameLoop;
+        this.tetrisControllerTimings = tetrisControllerTimings;
 
         tetris = tetrisFactory.createTetris();
         tetrisView = tetrisViewFactory.createTetrisView(tetris);
@@ -77,22 +83,37 @@ public class TetrisControllerImpl implements TetrisController {
 
     @Override
     public void onGameLoopUpdate() {
+        final long inputStart = System.nanoTime();
+
         executeTetrisControllerCommands(tetrisControllerInputHandler.handleInputs());
 
         tetrisControllerInputHandler.reset();
 
+        final long updateStart = System.nanoTime();
+
+        tetrisControllerTimings.record(TimingType.INPUT, updateStart - inputStart);
+
         final TetrisInstance tetrisInstance = tetris.getTetrisInstance();
 
         if (tetrisInstance != null) {
             tetrisInstanceService.update(tetrisInstance);
 
+            final long eventsStart = System.nanoTime();
+
+            tetrisControllerTimings.record(TimingType.UPDATE, eventsStart - updateStart);
+
             final List<TetrisEvent> tetrisEvents = tetrisInstance.getTetrisEvents();
 
             executeTetrisControllerCommands(
                 tetrisControllerTetrisEventHandler.handleEvents(tetrisEvents));
+
+            tetrisControllerTimings.record(TimingType.EVENTS, System.nanoTime() - eventsStart);
         }
+    }
 
-        tetrisView.update();
+    @Override
+    public void onGameLoopRender(final double interpolation) {
+        tetrisView.update(interpolation);
     }
 
     @Override
@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.ui.controller.gameloop;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import spypunk.tetris.ui.controller.TetrisController;
+import spypunk.tetris.ui.controller.timing.TetrisControllerTimings;
+import spypunk.tetris.ui.controller.timing.TimingType;
+import spypunk.tetris.ui.util.StartupMilestone;
+import spypunk.tetris.ui.util.SwingUtils;
+
+@Singleton
+public final class TetrisControllerGameLoopImpl implements TetrisControllerGameLoop, Runnable {
+
+    private static final int TICKS_PER_SECOND = 60;
+
+    private static final int DEFAULT_FRAMES_PER_SECOND = 60;
+
+    private static final long TICK_NANOS = TimeUnit.SECONDS.toNanos(1) / TICKS_PER_SECOND;
+
+    private static final int MAX_CATCH_UP_TICKS = 5;
+
+    private static final long SPIN_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+
+    private final ExecutorService executorService;
+
+    private final TetrisController tetrisController;
+
+    private final TetrisControllerTimings tetrisControllerTimings;
+
+    private final long frameNanos;
+
+    private volatile boolean running;
+
+    @Inject
+    public TetrisControllerGameLoopImpl(final TetrisController tetrisController,
+            final TetrisControllerTimings tetrisControllerTimings) {
+        executorService = Executors.newSingleThreadExecutor();
+        this.tetrisController = tetrisController;
+        this.tetrisControllerTimings = tetrisControllerTimings;
+
+        frameNanos = TimeUnit.SECONDS.toNanos(1) / SwingUtils.getRefreshRate(DEFAULT_FRAMES_PER_SECOND);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        executorService.execute(this);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        executorService.shutdown();
+    }
+
+    @Override
+    public void run() {
+        long nextTick = System.nanoTime();
+        long nextFrame = nextTick;
+        long previousTickStart = nextTick - TICK_NANOS;
+
+        while (running) {
+            long now = System.nanoTime();
+
+            for (int ticks = 0; now - nextTick >= 0; ++ticks) {
+                if (ticks == MAX_CATCH_UP_TICKS) {
+                    nextTick = now;
+                    break;
+                }
+
+                final long tickStart = System.nanoTime();
+
+                tetrisController.onGameLoopUpdate();
+
+                tetrisControllerTimings.record(TimingType.TICK, System.nanoTime() - tickStart);
+                tetrisControllerTimings.record(TimingType.LATENESS, tickStart - nextTick);
+                tetrisControllerTimings.record(TimingType.JITTER,
+                    Math.abs(tickStart - previousTickStart - TICK_NANOS));
+
+                StartupMilestone.FIRST_TICK.reach();
+
+                previousTickStart = tickStart;
+
+                nextTick += TICK_NANOS;
+            }
+
+            now = System.nanoTime();
+
+            if (now - nextFrame >= 0) {
+                tetrisController.onGameLoopRender(getInterpolation(nextTick, now));
+
+                tetrisControllerTimings.record(TimingType.VIEW, System.nanoTime() - now);
+
+                nextFrame = now - nextFrame < frameNanos ? nextFrame + frameNanos : now + frameNanos;
+            }
+
+            waitUntil(nextTick - nextFrame < 0 ? nextTick : nextFrame);
+        }
+
+        tetrisControllerTimings.dump();
+    }
+
+    private static double getInterpolation(final long nextTick, final long now) {
+        final double interpolation = 1 - (double) (nextTick - now) / TICK_NANOS;
+
+        return Math.max(0, Math.min(1, interpolation));
+    }
+
+    private void waitUntil(final long deadline) {
+        for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline
+                - System.nanoTime()) {
+            if (remaining > SPIN_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_NANOS);
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+}
@@ -81,6 +81,10 @@ public class TetrisControllerInputHandlerImpl implements TetrisControllerInputHa
 
     @Override
     public List<TetrisControllerCommand> handleInputs() {
+        if (pressedKeysBitSet.isEmpty() && releasedKeysBitSet.isEmpty()) {
+            return Collections.emptyList();
+        }
+
         return ListUtils.union(getCommandsFromKeys(pressedKeysBitSet, pressedKeyCodesHandlers),
             getCommandsFromKeys(releasedKeysBitSet, releasedKeyCodesHandlers));
     }
@@ -0,0 +1,20 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.ui.controller.timing;
+
+import spypunk.tetris.ui.util.LogLinearHistogram;
+
+public interface TetrisControllerTimings {
+
+    void record(TimingType timingType, long nanos);
+
+    LogLinearHistogram getHistogram(TimingType timingType);
+
+    void dump();
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.ui.controller.timing;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Singleton;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import spypunk.tetris.ui.util.LogLinearHistogram;
+
+@Singleton
+public class TetrisControllerTimingsImpl implements TetrisControllerTimings {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TetrisControllerTimingsImpl.class);
+
+    private static final String TIMINGS_FORMAT = "%-8s count=%d p50=%.3fms p99=%.3fms p99.9=%.3fms max=%.3fms"
+            .intern();
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Map<TimingType, LogLinearHistogram> histograms = new EnumMap<>(TimingType.class);
+
+    public TetrisControllerTimingsImpl() {
+        Arrays.stream(TimingType.values())
+                .forEach(timingType -> histograms.put(timingType, new LogLinearHistogram()));
+    }
+
+    @Override
+    public void record(final TimingType timingType, final long nanos) {
+        histograms.get(timingType).record(nanos);
+    }
+
+    @Override
+    public LogLinearHistogram getHistogram(final TimingType timingType) {
+        return histograms.get(timingType);
+    }
+
+    @Override
+    public void dump() {
+        histograms.forEach((timingType, histogram) -> LOGGER.info(String.format(TIMINGS_FORMAT, timingType,
+            histogram.getCount(), toMillis(histogram.getValueAtPercentile(50)),
+            toMillis(histogram.getValueAtPercentile(99)), toMillis(histogram.getValueAtPercentile(99.9)),
+            toMillis(histogram.getMax()))));
+    }
+
+    private static double toMillis(final long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
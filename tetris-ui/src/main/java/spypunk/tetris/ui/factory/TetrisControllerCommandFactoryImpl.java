@@ -11,7 +11,11 @@ package spypunk.tetris.ui.factory;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import spypunk.tetris.model.Movement;
+import spypunk.tetris.model.MovementQueue;
 import spypunk.tetris.model.TetrisInstance;
 import spypunk.tetris.model.TetrisInstance.State;
 import spypunk.tetris.service.TetrisInstanceService;
@@ -23,6 +27,8 @@ import spypunk.tetris.ui.controller.command.TetrisControllerCommand;
 @Singleton
 public class TetrisControllerCommandFactoryImpl implements TetrisControllerCommandFactory {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(TetrisControllerCommandFactoryImpl.class);
+
     private final TetrisInstanceService tetrisInstanceService;
 
     private final SoundService soundService;
@@ -69,8 +75,12 @@ public class TetrisControllerCommandFactoryImpl implements TetrisControllerComma
         return tetris -> {
             final TetrisInstance tetrisInstance = tetris.getTetrisInstance();
 
-            if (tetrisInstance != null) {
-                tetrisInstanceService.triggerMovement(tetrisInstance, movement);
+            if (tetrisInstance != null && !tetrisInstanceService.triggerMovement(tetrisInstance, movement)) {
+                final MovementQueue movements = tetrisInstance.getMovements();
+
+                if (movements.size() == movements.capacity()) {
+                    LOGGER.warn("Movement queue is full, dropping movement : " + movement);
+                }
             }
         };
     }
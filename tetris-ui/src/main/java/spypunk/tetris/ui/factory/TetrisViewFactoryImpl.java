@@ -12,31 +12,45 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import spypunk.tetris.model.Tetris;
+import spypunk.tetris.service.TetrisInstanceService;
 import spypunk.tetris.ui.cache.ImageCache;
 import spypunk.tetris.ui.controller.TetrisController;
 import spypunk.tetris.ui.font.cache.FontCache;
+import spypunk.tetris.ui.font.renderer.TextRenderer;
 import spypunk.tetris.ui.view.TetrisView;
 import spypunk.tetris.ui.view.TetrisViewImpl;
 
 @Singleton
 public class TetrisViewFactoryImpl implements TetrisViewFactory {
 
+    private static final String ACTIVE_RENDERING = "tetris.activeRendering".intern();
+
+    private static final String RASTER_RENDERING = "tetris.rasterRendering".intern();
+
     private final TetrisController tetrisController;
 
     private final FontCache fontCache;
 
     private final ImageCache imageCache;
 
+    private final TextRenderer textRenderer;
+
+    private final TetrisInstanceService tetrisInstanceService;
+
     @Inject
     public TetrisViewFactoryImpl(final TetrisController tetrisController, final FontCache fontCache,
-            final ImageCache imageCache) {
+            final ImageCache imageCache, final TextRenderer textRenderer,
+            final TetrisInstanceService tetrisInstanceService) {
         this.tetrisController = tetrisController;
         this.fontCache = fontCache;
         this.imageCache = imageCache;
+        this.textRenderer = textRenderer;
+        this.tetrisInstanceService = tetrisInstanceService;
     }
 
     @Override
     public TetrisView createTetrisView(final Tetris tetris) {
-        return new TetrisViewImpl(tetrisController, fontCache, imageCache, tetris);
+        return new TetrisViewImpl(tetrisController, fontCache, imageCache, textRenderer, tetrisInstanceService,
+                tetris, Boolean.getBoolean(ACTIVE_RENDERING), Boolean.getBoolean(RASTER_RENDERING));
     }
 }
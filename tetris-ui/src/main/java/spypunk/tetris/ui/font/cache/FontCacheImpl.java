@@ -13,8 +13,7 @@ import java.awt.FontFormatException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 import javax.inject.Singleton;
 
@@ -25,6 +24,8 @@ import com.google.common.collect.Lists;
 
 import spypunk.tetris.exception.TetrisException;
 import spypunk.tetris.ui.font.FontType;
+import spypunk.tetris.ui.util.StartupExecutor;
+import spypunk.tetris.ui.util.StartupMilestone;
 
 @Singleton
 public class FontCacheImpl implements FontCache {
@@ -33,11 +34,15 @@ public class FontCacheImpl implements FontCache {
 
     private static final String FONTS_FOLDER = "/font/".intern();
 
-    private final Map<FontType, Font> fonts = createFonts();
+    private final CompletableFuture<Map<FontType, Font>> fonts = createFonts();
+
+    public FontCacheImpl() {
+        fonts.thenRun(StartupMilestone.FONTS_LOADED::reach);
+    }
 
     @Override
     public Font getFont(final FontType fontType) {
-        return fonts.get(fontType);
+        return fonts.join().get(fontType);
     }
 
     private static Font createFont(final FontType fontType) {
@@ -51,8 +56,7 @@ public class FontCacheImpl implements FontCache {
         }
     }
 
-    private static Map<FontType, Font> createFonts() {
-        return Lists.newArrayList(FontType.values()).stream()
-                .collect(Collectors.toMap(Function.identity(), FontCacheImpl::createFont));
+    private static CompletableFuture<Map<FontType, Font>> createFonts() {
+        return StartupExecutor.supplyAllAsync(Lists.newArrayList(FontType.values()), FontCacheImpl::createFont);
     }
 }
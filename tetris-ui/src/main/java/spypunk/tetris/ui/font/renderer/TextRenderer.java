@@ -0,0 +1,21 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.ui.font.renderer;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+
+import spypunk.tetris.ui.font.FontType;
+
+public interface TextRenderer {
+
+    void renderCenteredText(Graphics2D graphics, String text, Rectangle rectangle, FontType fontType);
+
+    void renderCenteredNumber(Graphics2D graphics, int number, Rectangle rectangle, FontType fontType);
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.ui.font.renderer;
+
+import static spypunk.tetris.ui.constants.TetrisUIConstants.DEFAULT_FONT_COLOR;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import spypunk.tetris.ui.font.FontType;
+import spypunk.tetris.ui.font.cache.FontCache;
+import spypunk.tetris.ui.util.SwingUtils;
+
+@Singleton
+public class TextRendererImpl implements TextRenderer {
+
+    private static final int DIGITS = 10;
+
+    private final FontCache fontCache;
+
+    private final FontRenderContext fontRenderContext;
+
+    private final Map<FontType, Map<String, TextImage>> textImages = new EnumMap<>(FontType.class);
+
+    private final Map<FontType, TextImage[]> digitImages = new EnumMap<>(FontType.class);
+
+    private static final class TextImage {
+
+        private final BufferedImage image;
+
+        private final int imageX;
+
+        private final int imageY;
+
+        private final float advance;
+
+        private final Rectangle2D visualBounds;
+
+        TextImage(final BufferedImage image, final int imageX, final int imageY, final float advance,
+                final Rectangle2D visualBounds) {
+            this.image = image;
+            this.imageX = imageX;
+            this.imageY = imageY;
+            this.advance = advance;
+            this.visualBounds = visualBounds;
+        }
+
+        public float getAdvance() {
+            return advance;
+        }
+
+        public Rectangle2D getVisualBounds() {
+            return visualBounds;
+        }
+
+        public void render(final Graphics2D graphics, final int x, final int y) {
+            graphics.drawImage(image, x + imageX, y + imageY, null);
+        }
+    }
+
+    @Inject
+    public TextRendererImpl(final FontCache fontCache) {
+        this.fontCache = fontCache;
+
+        final BufferedImage image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D graphics = SwingUtils.createGraphics(image);
+
+        fontRenderContext = graphics.getFontRenderContext();
+
+        graphics.dispose();
+
+        for (final FontType fontType : FontType.values()) {
+            textImages.put(fontType, new ConcurrentHashMap<>());
+            digitImages.put(fontType, createDigitImages(fontType));
+        }
+    }
+
+    @Override
+    public void renderCenteredText(final Graphics2D graphics, final String text, final Rectangle rectangle,
+            final FontType fontType) {
+        final TextImage textImage = getTextImage(fontType, text);
+        final Rectangle2D visualBounds = textImage.getVisualBounds();
+
+        final int x = (int) (rectangle.x + (rectangle.width - visualBounds.getWidth()) / 2);
+        final int y = (int) (rectangle.y + (rectangle.height + visualBounds.getHeight()) / 2);
+
+        textImage.render(graphics, x, y);
+    }
+
+    @Override
+    public void renderCenteredNumber(final Graphics2D graphics, final int number, final Rectangle rectangle,
+            final FontType fontType) {
+        if (number < 0) {
+            renderCenteredText(graphics, String.valueOf(number), rectangle, fontType);
+            return;
+        }
+
+        final TextImage[] digits = digitImages.get(fontType);
+
+        int divisor = 1;
+
+        while (number / divisor >= DIGITS) {
+            divisor *= DIGITS;
+        }
+
+        final double minX = digits[number / divisor].getVisualBounds().getMinX();
+
+        double maxX = 0;
+        double minY = Double.MAX_VALUE;
+        double maxY = -Double.MAX_VALUE;
+        float advance = 0;
+
+        for (int i = divisor; i > 0; i /= DIGITS) {
+            final Rectangle2D visualBounds = digits[number / i % DIGITS].getVisualBounds();
+
+            maxX = advance + visualBounds.getMaxX();
+            minY = Math.min(minY, visualBounds.getMinY());
+            maxY = Math.max(maxY, visualBounds.getMaxY());
+            advance += digits[number / i % DIGITS].getAdvance();
+        }
+
+        final int x = (int) (rectangle.x + (rectangle.width - (maxX - minX)) / 2);
+        final int y = (int) (rectangle.y + (rectangle.height + (maxY - minY)) / 2);
+
+        advance = 0;
+
+        for (int i = divisor; i > 0; i /= DIGITS) {
+            final TextImage digit = digits[number / i % DIGITS];
+
+            digit.render(graphics, x + Math.round(advance), y);
+
+            advance += digit.getAdvance();
+        }
+    }
+
+    private TextImage getTextImage(final FontType fontType, final String text) {
+        final Map<String, TextImage> fontTypeTextImages = textImages.get(fontType);
+
+        TextImage textImage = fontTypeTextImages.get(text);
+
+        if (textImage == null) {
+            textImage = createTextImage(fontType, text);
+            fontTypeTextImages.put(text, textImage);
+        }
+
+        return textImage;
+    }
+
+    private TextImage[] createDigitImages(final FontType fontType) {
+        final TextImage[] digits = new TextImage[DIGITS];
+
+        for (int i = 0; i < DIGITS; ++i) {
+            digits[i] = createTextImage(fontType, String.valueOf(i));
+        }
+
+        return digits;
+    }
+
+    private TextImage createTextImage(final FontType fontType, final String text) {
+        final Font font = fontCache.getFont(fontType);
+        final GlyphVector glyphVector = font.createGlyphVector(fontRenderContext, text);
+        final Rectangle pixelBounds = glyphVector.getPixelBounds(fontRenderContext, 0, 0);
+        final float advance = (float) glyphVector.getGlyphPosition(glyphVector.getNumGlyphs()).getX();
+
+        final BufferedImage image = new BufferedImage(Math.max(1, pixelBounds.width),
+                Math.max(1, pixelBounds.height), BufferedImage.TYPE_INT_ARGB);
+
+        final Graphics2D graphics = SwingUtils.createGraphics(image);
+
+        graphics.setFont(font);
+        graphics.setColor(DEFAULT_FONT_COLOR);
+        graphics.drawString(text, -pixelBounds.x, -pixelBounds.y);
+        graphics.dispose();
+
+        return new TextImage(image, pixelBounds.x, pixelBounds.y, advance, glyphVector.getVisualBounds());
+    }
+}
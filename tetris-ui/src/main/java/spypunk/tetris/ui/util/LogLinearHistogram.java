@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.ui.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class LogLinearHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private static final int MAX_VALUE_BITS = 36;
+
+    private static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+
+    private static final int BUCKET_COUNT = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    private final AtomicLong count = new AtomicLong();
+
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(final long value) {
+        final long boundedValue = Math.max(0, Math.min(value, MAX_VALUE));
+
+        counts.incrementAndGet(getIndex(boundedValue));
+        count.incrementAndGet();
+
+        long currentMax = max.get();
+
+        while (boundedValue > currentMax && !max.compareAndSet(currentMax, boundedValue)) {
+            currentMax = max.get();
+        }
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public long getValueAtPercentile(final double percentile) {
+        final long total = count.get();
+
+        if (total == 0) {
+            return 0;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+
+        long cumulativeCount = 0;
+
+        for (int index = 0; index < BUCKET_COUNT; ++index) {
+            cumulativeCount += counts.get(index);
+
+            if (cumulativeCount >= rank) {
+                return Math.min(getHighestValue(index), max.get());
+            }
+        }
+
+        return max.get();
+    }
+
+    private static int getIndex(final long value) {
+        final int shift = 63 - Long.numberOfLeadingZeros(value | SUB_BUCKET_COUNT) - SUB_BUCKET_BITS;
+
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    private static long getHighestValue(final int index) {
+        final int shift = Math.max((index >> SUB_BUCKET_BITS) - 1, 0);
+        final long subBucket = index - (shift << SUB_BUCKET_BITS);
+
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.ui.util;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public final class StartupExecutor {
+
+    private static final String THREAD_NAME_PREFIX = "startup-".intern();
+
+    private static final int THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+
+    private static final long KEEP_ALIVE_SECONDS = 5;
+
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+    private StartupExecutor() {
+        throw new IllegalAccessError();
+    }
+
+    public static <T> CompletableFuture<T> supplyAsync(final Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, EXECUTOR);
+    }
+
+    public static <K, V> CompletableFuture<Map<K, V>> supplyAllAsync(final Collection<K> keys,
+            final Function<K, V> function) {
+        final Map<K, CompletableFuture<V>> futures = keys.stream()
+                .collect(Collectors.toMap(Function.identity(), key -> supplyAsync(() -> function.apply(key))));
+
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[futures.size()]))
+                .thenApply(ignored -> futures.entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().join())));
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(THREAD_COUNT, THREAD_COUNT, KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), createThreadFactory());
+
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+    private static ThreadFactory createThreadFactory() {
+        final AtomicInteger threadCount = new AtomicInteger();
+
+        return runnable -> {
+            final Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        };
+    }
+}
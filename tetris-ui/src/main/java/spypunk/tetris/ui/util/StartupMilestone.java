@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.ui.util;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public enum StartupMilestone {
+
+    JVM_START {
+        @Override
+        protected long getTime() {
+            return ManagementFactory.getRuntimeMXBean().getStartTime();
+        }
+    },
+    MAIN,
+    INJECTOR_CREATED,
+    FONTS_LOADED,
+    IMAGES_LOADED,
+    SOUND_CLIPS_LOADED,
+    VIEW_CREATED,
+    FRAME_VISIBLE,
+    FIRST_TICK;
+
+    public static final String PROPERTY = "tetris.startupTimeline".intern();
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupMilestone.class);
+
+    private static final String FILE_NAME = System.getProperty(PROPERTY);
+
+    private final AtomicBoolean reached = new AtomicBoolean();
+
+    public void reach() {
+        if (FILE_NAME != null && reached.compareAndSet(false, true)) {
+            write(name() + " " + getTime());
+        }
+    }
+
+    protected long getTime() {
+        return System.currentTimeMillis();
+    }
+
+    private static synchronized void write(final String line) {
+        try {
+            Files.write(Paths.get(FILE_NAME), Collections.singletonList(line), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (final IOException e) {
+            LOGGER.warn("Cannot write startup milestone to " + FILE_NAME + " | " + e.getMessage(), e);
+        }
+    }
+}
@@ -8,16 +8,16 @@
 
 package spypunk.tetris.ui.util;
 
+import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Desktop;
-import java.awt.Font;
+import java.awt.DisplayMode;
 import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
 import java.awt.Image;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
-import java.awt.font.FontRenderContext;
-import java.awt.font.GlyphVector;
-import java.awt.geom.Rectangle2D;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
@@ -74,28 +74,16 @@ public final class SwingUtils {
         return getCenteredImageRectangle(image, rectangle, 1);
     }
 
-    public static Rectangle getCenteredTextRectangle(final Graphics2D graphics, final String text,
-            final Rectangle rectangle, final Font font) {
-        final Rectangle2D textBounds = getTextBounds(graphics, text, font);
-
-        final int x1 = (int) (rectangle.x + (rectangle.width - textBounds.getWidth()) / 2);
-        final int y1 = (int) (rectangle.y + (rectangle.height + textBounds.getHeight()) / 2);
-
-        return new Rectangle(x1, y1, (int) textBounds.getWidth(), (int) textBounds.getHeight());
-    }
-
-    public static Rectangle2D getTextBounds(final Graphics2D graphics, final String text, final Font font) {
-        final FontRenderContext frc = graphics.getFontRenderContext();
-        final GlyphVector gv = font.createGlyphVector(frc, text);
-
-        return gv.getVisualBounds();
-    }
-
     public static void drawImage(final Graphics2D graphics, final Image image,
             final Rectangle rectangle) {
         final int imageWidth = image.getWidth(null);
         final int imageHeight = image.getHeight(null);
 
+        if (imageWidth == rectangle.width && imageHeight == rectangle.height) {
+            graphics.drawImage(image, rectangle.x, rectangle.y, null);
+            return;
+        }
+
         graphics.drawImage(image, rectangle.x, rectangle.y, rectangle.x + rectangle.width,
             rectangle.y + rectangle.height, 0, 0, imageWidth, imageHeight,
             null);
@@ -115,27 +103,66 @@ public final class SwingUtils {
         }
     }
 
-    public static void renderCenteredText(final Graphics2D graphics, final String text, final Rectangle rectangle,
-            final Font font,
-            final Color fontColor) {
-        graphics.setFont(font);
-        graphics.setColor(fontColor);
+    public static void doInGraphics(final BufferedImage image, final Consumer<Graphics2D> consumer) {
+        final Graphics2D graphics = createGraphics(image);
 
-        final Rectangle textRectangle = SwingUtils.getCenteredTextRectangle(graphics, text, rectangle, font);
+        graphics.setColor(Color.BLACK);
+        graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+
+        consumer.accept(graphics);
 
-        graphics.drawString(text, textRectangle.x, textRectangle.y);
+        graphics.dispose();
     }
 
-    public static void doInGraphics(final BufferedImage image, final Consumer<Graphics2D> consumer) {
-        final Graphics2D graphics = image.createGraphics();
+    public static void doInGraphics(final BufferedImage image, final BufferedImage backgroundImage,
+            final Consumer<Graphics2D> consumer) {
+        final Graphics2D graphics = createGraphics(image);
 
-        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-        graphics.setColor(Color.BLACK);
-        graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+        graphics.setComposite(AlphaComposite.Src);
+        graphics.drawImage(backgroundImage, 0, 0, null);
+        graphics.setComposite(AlphaComposite.SrcOver);
 
         consumer.accept(graphics);
 
         graphics.dispose();
     }
+
+    public static BufferedImage createCompatibleImage(final int width, final int height) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration()
+                .createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+
+    public static BufferedImage createCompatibleImage(final Image image, final int width, final int height) {
+        final BufferedImage compatibleImage = createCompatibleImage(width, height);
+        final Graphics2D graphics = createGraphics(compatibleImage);
+
+        graphics.drawImage(image, 0, 0, width, height, 0, 0, image.getWidth(null), image.getHeight(null), null);
+        graphics.dispose();
+
+        return compatibleImage;
+    }
+
+    public static int getRefreshRate(final int defaultRefreshRate) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return defaultRefreshRate;
+        }
+
+        final int refreshRate = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                .getDisplayMode().getRefreshRate();
+
+        return refreshRate == DisplayMode.REFRESH_RATE_UNKNOWN ? defaultRefreshRate : refreshRate;
+    }
+
+    public static Graphics2D createGraphics(final BufferedImage image) {
+        final Graphics2D graphics = image.createGraphics();
+
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        return graphics;
+    }
 }
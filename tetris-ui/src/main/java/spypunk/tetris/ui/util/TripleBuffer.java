@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.ui.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public final class TripleBuffer<T> {
+
+    private static final int INDEX_MASK = 3;
+
+    private static final int PUBLISHED = 4;
+
+    private final Object[] buffers = new Object[3];
+
+    private final AtomicInteger middle = new AtomicInteger(1);
+
+    private int back;
+
+    private int front = 2;
+
+    public TripleBuffer(final Supplier<T> supplier) {
+        for (int i = 0; i < buffers.length; ++i) {
+            buffers[i] = supplier.get();
+        }
+    }
+
+    public T getBackBuffer() {
+        return getBuffer(back);
+    }
+
+    public void publish() {
+        back = middle.getAndSet(back | PUBLISHED) & INDEX_MASK;
+    }
+
+    public T poll() {
+        if ((middle.get() & PUBLISHED) == 0) {
+            return null;
+        }
+
+        front = middle.getAndSet(front) & INDEX_MASK;
+
+        return getBuffer(front);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T getBuffer(final int index) {
+        return (T) buffers[index];
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.ui.view;
+
+import static spypunk.tetris.ui.constants.TetrisUIConstants.BLOCK_SIZE;
+import static spypunk.tetris.ui.constants.TetrisUIConstants.DEFAULT_BORDER_COLOR;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+
+import spypunk.tetris.constants.TetrisConstants;
+import spypunk.tetris.model.Shape;
+import spypunk.tetris.model.ShapeRotation;
+import spypunk.tetris.model.ShapeType;
+import spypunk.tetris.model.TetrisEvent;
+import spypunk.tetris.model.TetrisInstance.State;
+import spypunk.tetris.ui.font.FontType;
+import spypunk.tetris.ui.font.renderer.TextRenderer;
+
+public abstract class AbstractTetrisInstanceGridView extends AbstractTetrisInstanceView {
+
+    private static final long serialVersionUID = 6052384919873104271L;
+
+    private static final String PAUSE = "PAUSE".intern();
+
+    private static final Color TETRIS_FROZEN_FG_COLOR = new Color(30, 30, 30, 200);
+
+    private static final String GAME_OVER = "GAME OVER".intern();
+
+    private static final String PRESS_SPACE = "PRESS SPACE".intern();
+
+    private static final int NO_STACK_VERSION = Integer.MIN_VALUE;
+
+    protected final Rectangle gridRectangle;
+
+    protected final Rectangle[] blockRectangles;
+
+    protected final ShapeType[] shapeTypes = ShapeType.values();
+
+    private final Rectangle frozenGridRectangle;
+
+    private final TextRenderer textRenderer;
+
+    private int stackVersion = NO_STACK_VERSION;
+
+    private double interpolation;
+
+    protected AbstractTetrisInstanceGridView(final TextRenderer textRenderer) {
+        this.textRenderer = textRenderer;
+
+        gridRectangle = new Rectangle(0, 0, TetrisConstants.WIDTH * BLOCK_SIZE + 1,
+                TetrisConstants.HEIGHT * BLOCK_SIZE + 1);
+
+        frozenGridRectangle = new Rectangle(gridRectangle.x + 1, gridRectangle.y + 1, gridRectangle.width - 1,
+                gridRectangle.height - 1);
+
+        blockRectangles = createBlockRectangles(gridRectangle.x + 1, gridRectangle.y + 1);
+    }
+
+    @Override
+    protected boolean render() {
+        updateStack();
+
+        renderGrid();
+
+        return true;
+    }
+
+    public void setInterpolation(final double interpolation) {
+        this.interpolation = interpolation;
+    }
+
+    protected abstract void renderGrid();
+
+    protected abstract void clearStack();
+
+    protected abstract void shiftStack(int row);
+
+    protected abstract void renderStackBlock(ShapeType shapeType, int index);
+
+    protected void onStackUpdated() {
+    }
+
+    protected void renderBackground(final Graphics2D graphics) {
+        graphics.setColor(DEFAULT_BORDER_COLOR);
+
+        graphics.drawRect(gridRectangle.x, gridRectangle.y, gridRectangle.width,
+            gridRectangle.height);
+    }
+
+    protected boolean isFrozen() {
+        return tetrisInstance == null || !State.RUNNING.equals(tetrisInstance.getState());
+    }
+
+    protected int getCurrentShapeOffset() {
+        if (isFrozen() || tetrisInstance.isCurrentShapeLocked() || tetrisInstance.isHardDropEnabled()
+                || !canCurrentShapeFall()) {
+            return 0;
+        }
+
+        return (int) ((tetrisInstance.getCurrentGravityFrame() + interpolation) * BLOCK_SIZE
+                / (tetrisInstance.getSpeed() + 1));
+    }
+
+    protected void renderFrozen(final Graphics2D graphics) {
+        if (tetrisInstance == null) {
+            textRenderer.renderCenteredText(graphics, PRESS_SPACE, gridRectangle, FontType.FROZEN);
+            return;
+        }
+
+        final State state = tetrisInstance.getState();
+
+        if (State.RUNNING.equals(state)) {
+            return;
+        }
+
+        graphics.setColor(TETRIS_FROZEN_FG_COLOR);
+        graphics.fillRect(frozenGridRectangle.x, frozenGridRectangle.y, frozenGridRectangle.width,
+            frozenGridRectangle.height);
+
+        textRenderer.renderCenteredText(graphics, State.GAME_OVER.equals(state) ? GAME_OVER : PAUSE, gridRectangle,
+            FontType.FROZEN);
+    }
+
+    private void updateStack() {
+        final int currentStackVersion = tetrisInstance == null ? NO_STACK_VERSION
+                : tetrisInstance.getStackVersion();
+
+        if (currentStackVersion == stackVersion) {
+            return;
+        }
+
+        if (tetrisInstance == null) {
+            clearStack();
+        } else if (currentStackVersion != stackVersion + 1 || stackVersion == NO_STACK_VERSION) {
+            rebuildStack();
+        } else if (TetrisEvent.SHAPE_LOCKED.equals(tetrisInstance.getStackEvent())) {
+            renderLockedShape();
+        } else if (TetrisEvent.ROWS_COMPLETED.equals(tetrisInstance.getStackEvent())) {
+            shiftClearedRows();
+        } else {
+            rebuildStack();
+        }
+
+        stackVersion = currentStackVersion;
+
+        onStackUpdated();
+    }
+
+    private void rebuildStack() {
+        final int[] gridRows = tetrisInstance.getGridRows();
+        final byte[] gridShapeTypes = tetrisInstance.getGridShapeTypes();
+
+        clearStack();
+
+        for (int row = 0; row < TetrisConstants.HEIGHT; ++row) {
+            for (int gridRow = gridRows[row]; gridRow != 0; gridRow &= gridRow - 1) {
+                final int index = row * TetrisConstants.WIDTH + Integer.numberOfTrailingZeros(gridRow);
+
+                renderStackBlock(shapeTypes[gridShapeTypes[index]], index);
+            }
+        }
+    }
+
+    private void renderLockedShape() {
+        final Shape lockedShape = tetrisInstance.getLockedShape();
+        final ShapeRotation rotation = lockedShape.getRotation();
+
+        for (int i = 0; i < rotation.getBlockCount(); ++i) {
+            renderStackBlock(lockedShape.getShapeType(),
+                (lockedShape.getY() + rotation.getRow(i)) * TetrisConstants.WIDTH + lockedShape.getX()
+                        + rotation.getColumn(i));
+        }
+    }
+
+    private void shiftClearedRows() {
+        int clearedGridRows = tetrisInstance.getClearedGridRows();
+
+        while (clearedGridRows != 0) {
+            shiftStack(Integer.numberOfTrailingZeros(clearedGridRows));
+
+            clearedGridRows &= clearedGridRows - 1;
+        }
+    }
+
+    private boolean canCurrentShapeFall() {
+        final Shape currentShape = tetrisInstance.getCurrentShape();
+        final ShapeRotation rotation = currentShape.getRotation();
+        final int[] gridRows = tetrisInstance.getGridRows();
+
+        for (int i = 0; i < rotation.getBlockCount(); ++i) {
+            final int row = currentShape.getY() + rotation.getRow(i) + 1;
+
+            if (row == TetrisConstants.HEIGHT
+                    || (gridRows[row] & 1 << currentShape.getX() + rotation.getColumn(i)) != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static Rectangle[] createBlockRectangles(final int blockX, final int blockY) {
+        final Rectangle[] rectangles = new Rectangle[TetrisConstants.WIDTH * TetrisConstants.HEIGHT];
+
+        for (int row = 0; row < TetrisConstants.HEIGHT; ++row) {
+            for (int column = 0; column < TetrisConstants.WIDTH; ++column) {
+                rectangles[row * TetrisConstants.WIDTH + column] = new Rectangle(blockX + column * BLOCK_SIZE,
+                        blockY + row * BLOCK_SIZE, BLOCK_SIZE, BLOCK_SIZE);
+            }
+        }
+
+        return rectangles;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.ui.view;
+
+import static spypunk.tetris.ui.constants.TetrisUIConstants.BLOCK_SIZE;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+
+import spypunk.tetris.model.TetrisInstance;
+
+public class TetrisInstanceCanvas extends Canvas {
+
+    private static final long serialVersionUID = 2950316640383473127L;
+
+    private static final int BUFFER_COUNT = 2;
+
+    private final AbstractTetrisInstanceView[] tetrisInstanceViews;
+
+    private final Point[] tetrisInstanceViewLocations;
+
+    private transient BufferStrategy bufferStrategy;
+
+    public TetrisInstanceCanvas(final AbstractTetrisInstanceView... tetrisInstanceViews) {
+        this.tetrisInstanceViews = tetrisInstanceViews;
+
+        tetrisInstanceViewLocations = new Point[tetrisInstanceViews.length];
+
+        int width = 0;
+        int height = 0;
+
+        for (final AbstractTetrisInstanceView tetrisInstanceView : tetrisInstanceViews) {
+            width += tetrisInstanceView.getImage().getWidth();
+            height = Math.max(height, tetrisInstanceView.getImage().getHeight());
+        }
+
+        width += BLOCK_SIZE * (tetrisInstanceViews.length - 1);
+
+        int x = 0;
+
+        for (int i = 0; i < tetrisInstanceViews.length; ++i) {
+            final int imageWidth = tetrisInstanceViews[i].getImage().getWidth();
+            final int imageHeight = tetrisInstanceViews[i].getImage().getHeight();
+
+            tetrisInstanceViewLocations[i] = new Point(x, (height - imageHeight) / 2);
+
+            x += imageWidth + BLOCK_SIZE;
+        }
+
+        setPreferredSize(new Dimension(width, height));
+        setBackground(Color.BLACK);
+        setFocusable(false);
+        setIgnoreRepaint(true);
+    }
+
+    public void render(final TetrisInstance tetrisInstance) {
+        for (final AbstractTetrisInstanceView tetrisInstanceView : tetrisInstanceViews) {
+            tetrisInstanceView.render(tetrisInstance);
+        }
+
+        if (!isDisplayable()) {
+            return;
+        }
+
+        if (bufferStrategy == null) {
+            createBufferStrategy(BUFFER_COUNT);
+            bufferStrategy = getBufferStrategy();
+        }
+
+        do {
+            do {
+                final Graphics2D graphics = (Graphics2D) bufferStrategy.getDrawGraphics();
+
+                try {
+                    renderViews(graphics);
+                } finally {
+                    graphics.dispose();
+                }
+            } while (bufferStrategy.contentsRestored());
+
+            bufferStrategy.show();
+        } while (bufferStrategy.contentsLost());
+
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    private void renderViews(final Graphics2D graphics) {
+        graphics.setColor(Color.BLACK);
+        graphics.fillRect(0, 0, getWidth(), getHeight());
+
+        for (int i = 0; i < tetrisInstanceViews.length; ++i) {
+            final Point location = tetrisInstanceViewLocations[i];
+
+            graphics.drawImage(tetrisInstanceViews[i].getImage(), location.x, location.y, null);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.ui.view;
+
+import static spypunk.tetris.ui.constants.TetrisUIConstants.BLOCK_SIZE;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import javax.swing.ImageIcon;
+
+import spypunk.tetris.constants.TetrisConstants;
+import spypunk.tetris.model.Shape;
+import spypunk.tetris.model.ShapeRotation;
+import spypunk.tetris.model.ShapeType;
+import spypunk.tetris.ui.cache.ImageCache;
+import spypunk.tetris.ui.font.renderer.TextRenderer;
+import spypunk.tetris.ui.util.SwingUtils;
+
+public class TetrisInstanceGridView extends AbstractTetrisInstanceGridView {
+
+    private static final long serialVersionUID = -3487901883637598196L;
+
+    private final ImageCache imageCache;
+
+    private final transient BufferedImage stackImage;
+
+    private transient Graphics2D stackGraphics;
+
+    public TetrisInstanceGridView(final TextRenderer textRenderer,
+            final ImageCache imageCache) {
+        super(textRenderer);
+
+        this.imageCache = imageCache;
+
+        image = new BufferedImage(gridRectangle.width + 1, gridRectangle.height + 1,
+                BufferedImage.TYPE_INT_ARGB);
+        backgroundImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+
+        stackImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+
+        SwingUtils.doInGraphics(backgroundImage, this::renderBackground);
+        SwingUtils.doInGraphics(stackImage, this::renderBackground);
+
+        setIcon(new ImageIcon(image));
+        setIgnoreRepaint(true);
+    }
+
+    @Override
+    protected void renderGrid() {
+        SwingUtils.doInGraphics(image, stackImage, this::renderBlocks);
+    }
+
+    @Override
+    protected void clearStack() {
+        getStackGraphics().drawImage(backgroundImage, 0, 0, null);
+    }
+
+    @Override
+    protected void shiftStack(final int row) {
+        final Rectangle topBlockRectangle = blockRectangles[0];
+        final int width = TetrisConstants.WIDTH * BLOCK_SIZE;
+        final Graphics2D graphics = getStackGraphics();
+
+        graphics.copyArea(topBlockRectangle.x, topBlockRectangle.y, width, row * BLOCK_SIZE, 0, BLOCK_SIZE);
+        graphics.drawImage(backgroundImage, topBlockRectangle.x, topBlockRectangle.y,
+            topBlockRectangle.x + width, topBlockRectangle.y + BLOCK_SIZE, topBlockRectangle.x,
+            topBlockRectangle.y, topBlockRectangle.x + width, topBlockRectangle.y + BLOCK_SIZE, null);
+    }
+
+    @Override
+    protected void renderStackBlock(final ShapeType shapeType, final int index) {
+        renderBlock(getStackGraphics(), shapeType, index, 0);
+    }
+
+    @Override
+    protected void onStackUpdated() {
+        if (stackGraphics != null) {
+            stackGraphics.dispose();
+            stackGraphics = null;
+        }
+    }
+
+    private Graphics2D getStackGraphics() {
+        if (stackGraphics == null) {
+            stackGraphics = SwingUtils.createGraphics(stackImage);
+        }
+
+        return stackGraphics;
+    }
+
+    private void renderBlocks(final Graphics2D graphics) {
+        if (tetrisInstance != null) {
+            renderCurrentShape(graphics, tetrisInstance.getCurrentShape());
+        }
+
+        if (isFrozen()) {
+            renderFrozen(graphics);
+        }
+    }
+
+    private void renderCurrentShape(final Graphics2D graphics, final Shape currentShape) {
+        final ShapeRotation rotation = currentShape.getRotation();
+        final int offset = getCurrentShapeOffset();
+
+        for (int i = 0; i < rotation.getBlockCount(); ++i) {
+            renderBlock(graphics, currentShape.getShapeType(),
+                (currentShape.getY() + rotation.getRow(i)) * TetrisConstants.WIDTH + currentShape.getX()
+                        + rotation.getColumn(i),
+                offset);
+        }
+    }
+
+    private void renderBlock(final Graphics2D graphics, final ShapeType shapeType, final int index,
+            final int offset) {
+        final Rectangle blockRectangle = blockRectangles[index];
+
+        graphics.drawImage(imageCache.getBlockImage(shapeType), blockRectangle.x, blockRectangle.y + offset, null);
+    }
+}
@@ -10,10 +10,7 @@ package spypunk.tetris.ui.view;
 
 import static spypunk.tetris.ui.constants.TetrisUIConstants.BLOCK_SIZE;
 import static spypunk.tetris.ui.constants.TetrisUIConstants.DEFAULT_BORDER_COLOR;
-import static spypunk.tetris.ui.constants.TetrisUIConstants.DEFAULT_FONT_COLOR;
-import static spypunk.tetris.ui.constants.TetrisUIConstants.ZERO;
 
-import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.Rectangle;
@@ -29,11 +26,10 @@ import com.google.common.collect.Lists;
 
 import spypunk.tetris.model.Shape;
 import spypunk.tetris.model.ShapeType;
-import spypunk.tetris.model.Tetris;
 import spypunk.tetris.model.TetrisInstance;
 import spypunk.tetris.ui.cache.ImageCache;
 import spypunk.tetris.ui.font.FontType;
-import spypunk.tetris.ui.font.cache.FontCache;
+import spypunk.tetris.ui.font.renderer.TextRenderer;
 import spypunk.tetris.ui.util.SwingUtils;
 
 public class TetrisInstanceInfoView extends AbstractTetrisInstanceView {
@@ -72,16 +68,15 @@ public class TetrisInstanceInfoView extends AbstractTetrisInstanceView {
 
     private final ImageCache imageCache;
 
-    private final Font defaultFont;
+    private final TextRenderer textRenderer;
 
-    public TetrisInstanceInfoView(final FontCache fontCache,
-            final ImageCache imageCache, final Tetris tetris) {
-        this.tetris = tetris;
-        this.imageCache = imageCache;
+    private int renderedInfoVersion = -1;
 
-        defaultFont = fontCache.getFont(FontType.DEFAULT);
+    public TetrisInstanceInfoView(final TextRenderer textRenderer,
+            final ImageCache imageCache) {
+        this.imageCache = imageCache;
 
-        image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        this.textRenderer = textRenderer;
 
         levelRectangle = new Rectangle(0, BLOCK_SIZE, BLOCK_SIZE * 6, BLOCK_SIZE);
         scoreRectangle = new Rectangle(0, BLOCK_SIZE * 4, BLOCK_SIZE * 6, BLOCK_SIZE);
@@ -99,19 +94,38 @@ public class TetrisInstanceInfoView extends AbstractTetrisInstanceView {
                 .collect(
                     Collectors.toMap(Function.identity(), this::createShapeTypeImageRectangle));
 
+        image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        backgroundImage = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+
+        SwingUtils.doInGraphics(backgroundImage, this::renderBackground);
+
         setIcon(new ImageIcon(image));
         setIgnoreRepaint(true);
     }
 
     @Override
-    public void update() {
-        SwingUtils.doInGraphics(image, this::doUpdate);
-        repaint();
+    protected boolean render() {
+        final int version = tetrisInstance != null ? tetrisInstance.getInfoVersion() : 0;
+
+        if (version == renderedInfoVersion) {
+            return false;
+        }
+
+        renderedInfoVersion = version;
+
+        SwingUtils.doInGraphics(image, backgroundImage, this::doUpdate);
+
+        return true;
     }
 
-    private void doUpdate(final Graphics2D graphics) {
-        final TetrisInstance tetrisInstance = tetris.getTetrisInstance();
+    private void renderBackground(final Graphics2D graphics) {
+        renderLabelAndRectangle(graphics, levelRectangle, levelLabelRectangle, LEVEL);
+        renderLabelAndRectangle(graphics, scoreRectangle, scoreLabelRectangle, SCORE);
+        renderLabelAndRectangle(graphics, rowsRectangle, rowsLabelRectangle, ROWS);
+        renderLabelAndRectangle(graphics, nextShapeRectangle, nextShapeLabelRectangle, NEXT_SHAPE);
+    }
 
+    private void doUpdate(final Graphics2D graphics) {
         renderLevel(graphics, tetrisInstance);
         renderScore(graphics, tetrisInstance);
         renderRows(graphics, tetrisInstance);
@@ -130,23 +144,21 @@ public class TetrisInstanceInfoView extends AbstractTetrisInstanceView {
     }
 
     private void renderRows(final Graphics2D graphics, final TetrisInstance tetrisInstance) {
-        renderInfo(graphics, rowsRectangle, rowsLabelRectangle, ROWS,
-            tetrisInstance != null ? String.valueOf(tetrisInstance.getCompletedRows()) : ZERO);
+        renderInfo(graphics, rowsRectangle,
+            tetrisInstance != null ? tetrisInstance.getCompletedRows() : 0);
     }
 
     private void renderScore(final Graphics2D graphics, final TetrisInstance tetrisInstance) {
-        renderInfo(graphics, scoreRectangle, scoreLabelRectangle, SCORE,
-            tetrisInstance != null ? String.valueOf(tetrisInstance.getScore()) : ZERO);
+        renderInfo(graphics, scoreRectangle,
+            tetrisInstance != null ? tetrisInstance.getScore() : 0);
     }
 
     private void renderLevel(final Graphics2D graphics, final TetrisInstance tetrisInstance) {
-        renderInfo(graphics, levelRectangle, levelLabelRectangle, LEVEL,
-            tetrisInstance != null ? String.valueOf(tetrisInstance.getLevel()) : ZERO);
+        renderInfo(graphics, levelRectangle,
+            tetrisInstance != null ? tetrisInstance.getLevel() : 0);
     }
 
     private void renderNextShape(final Graphics2D graphics, final TetrisInstance tetrisInstance) {
-        renderLabelAndRectangle(graphics, nextShapeRectangle, nextShapeLabelRectangle, NEXT_SHAPE);
-
         if (tetrisInstance == null) {
             return;
         }
@@ -159,19 +171,14 @@ public class TetrisInstanceInfoView extends AbstractTetrisInstanceView {
         SwingUtils.drawImage(graphics, shapeTypeImage, rectangle);
     }
 
-    private void renderInfo(final Graphics2D graphics, final Rectangle rectangle, final Rectangle labelRectangle,
-            final String title, final String value) {
-        renderLabelAndRectangle(graphics, rectangle, labelRectangle, title);
-
-        SwingUtils.renderCenteredText(graphics, value,
-            rectangle, defaultFont, DEFAULT_FONT_COLOR);
+    private void renderInfo(final Graphics2D graphics, final Rectangle rectangle, final int value) {
+        textRenderer.renderCenteredNumber(graphics, value, rectangle, FontType.DEFAULT);
     }
 
     private void renderLabelAndRectangle(final Graphics2D graphics, final Rectangle rectangle,
             final Rectangle labelRectangle,
             final String label) {
-        SwingUtils.renderCenteredText(graphics, label,
-            labelRectangle, defaultFont, DEFAULT_FONT_COLOR);
+        textRenderer.renderCenteredText(graphics, label, labelRectangle, FontType.DEFAULT);
 
         graphics.setColor(DEFAULT_BORDER_COLOR);
 
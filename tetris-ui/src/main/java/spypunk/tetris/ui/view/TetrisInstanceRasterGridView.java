@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.ui.view;
+
+import static spypunk.tetris.ui.constants.TetrisUIConstants.BLOCK_SIZE;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+import javax.swing.ImageIcon;
+
+import spypunk.tetris.constants.TetrisConstants;
+import spypunk.tetris.model.Shape;
+import spypunk.tetris.model.ShapeRotation;
+import spypunk.tetris.model.ShapeType;
+import spypunk.tetris.ui.cache.ImageCache;
+import spypunk.tetris.ui.font.renderer.TextRenderer;
+import spypunk.tetris.ui.util.SwingUtils;
+
+public class TetrisInstanceRasterGridView extends AbstractTetrisInstanceGridView {
+
+    private static final long serialVersionUID = 2931644752213086471L;
+
+    private final int width;
+
+    private final int[] pixels;
+
+    private final int[] backgroundPixels;
+
+    private final int[] stackPixels;
+
+    private final int[][] blockPixels;
+
+    private final int[] dirtyBlockIndexes = new int[TetrisConstants.WIDTH * TetrisConstants.HEIGHT];
+
+    private int dirtyBlockCount;
+
+    private boolean dirty = true;
+
+    public TetrisInstanceRasterGridView(final TextRenderer textRenderer,
+            final ImageCache imageCache) {
+        super(textRenderer);
+
+        image = new BufferedImage(gridRectangle.width + 1, gridRectangle.height + 1, BufferedImage.TYPE_INT_RGB);
+        backgroundImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+
+        SwingUtils.doInGraphics(backgroundImage, this::renderBackground);
+
+        width = image.getWidth();
+        pixels = getPixels(image);
+        backgroundPixels = getPixels(backgroundImage);
+        stackPixels = backgroundPixels.clone();
+        blockPixels = new int[shapeTypes.length][];
+
+        for (final ShapeType shapeType : shapeTypes) {
+            final BufferedImage blockImage = new BufferedImage(BLOCK_SIZE, BLOCK_SIZE, BufferedImage.TYPE_INT_RGB);
+
+            SwingUtils.doInGraphics(blockImage,
+                graphics -> graphics.drawImage(imageCache.getBlockImage(shapeType), 0, 0, null));
+
+            blockPixels[shapeType.ordinal()] = getPixels(blockImage);
+        }
+
+        setIcon(new ImageIcon(image));
+        setIgnoreRepaint(true);
+    }
+
+    @Override
+    protected void renderGrid() {
+        if (dirty) {
+            System.arraycopy(stackPixels, 0, pixels, 0, pixels.length);
+            dirty = false;
+        } else {
+            for (int i = 0; i < dirtyBlockCount; ++i) {
+                copyBlock(stackPixels, pixels, dirtyBlockIndexes[i]);
+            }
+        }
+
+        dirtyBlockCount = 0;
+
+        if (tetrisInstance != null) {
+            renderCurrentShape(tetrisInstance.getCurrentShape());
+        }
+
+        if (isFrozen()) {
+            final Graphics2D graphics = SwingUtils.createGraphics(image);
+
+            renderFrozen(graphics);
+
+            graphics.dispose();
+
+            dirty = true;
+        }
+    }
+
+    @Override
+    protected void clearStack() {
+        System.arraycopy(backgroundPixels, 0, stackPixels, 0, stackPixels.length);
+
+        dirty = true;
+    }
+
+    @Override
+    protected void shiftStack(final int row) {
+        final int topOffset = blockRectangles[0].y * width;
+        final int rowLength = BLOCK_SIZE * width;
+
+        System.arraycopy(stackPixels, topOffset, stackPixels, topOffset + rowLength, row * rowLength);
+        System.arraycopy(backgroundPixels, topOffset, stackPixels, topOffset, rowLength);
+
+        dirty = true;
+    }
+
+    @Override
+    protected void renderStackBlock(final ShapeType shapeType, final int index) {
+        renderBlock(stackPixels, shapeType, index, 0);
+        markDirty(index);
+    }
+
+    private void renderCurrentShape(final Shape currentShape) {
+        final ShapeRotation rotation = currentShape.getRotation();
+        final int offset = getCurrentShapeOffset();
+
+        for (int i = 0; i < rotation.getBlockCount(); ++i) {
+            final int index = (currentShape.getY() + rotation.getRow(i)) * TetrisConstants.WIDTH
+                    + currentShape.getX() + rotation.getColumn(i);
+
+            renderBlock(pixels, currentShape.getShapeType(), index, offset);
+            markDirty(index);
+
+            if (offset > 0) {
+                markDirty(index + TetrisConstants.WIDTH);
+            }
+        }
+    }
+
+    private void markDirty(final int index) {
+        if (dirtyBlockCount == dirtyBlockIndexes.length) {
+            dirty = true;
+        } else {
+            dirtyBlockIndexes[dirtyBlockCount++] = index;
+        }
+    }
+
+    private void copyBlock(final int[] sourcePixels, final int[] targetPixels, final int index) {
+        final Rectangle blockRectangle = blockRectangles[index];
+
+        for (int y = 0; y < blockRectangle.height; ++y) {
+            final int offset = (blockRectangle.y + y) * width + blockRectangle.x;
+
+            System.arraycopy(sourcePixels, offset, targetPixels, offset, blockRectangle.width);
+        }
+    }
+
+    private void renderBlock(final int[] targetPixels, final ShapeType shapeType, final int index,
+            final int offset) {
+        final Rectangle blockRectangle = blockRectangles[index];
+        final int[] sourcePixels = blockPixels[shapeType.ordinal()];
+
+        for (int y = 0; y < BLOCK_SIZE; ++y) {
+            System.arraycopy(sourcePixels, y * BLOCK_SIZE, targetPixels, (blockRectangle.y + offset + y) * width
+                    + blockRectangle.x, BLOCK_SIZE);
+        }
+    }
+
+    private static int[] getPixels(final BufferedImage image) {
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+}
@@ -10,10 +10,7 @@ package spypunk.tetris.ui.view;
 
 import static spypunk.tetris.ui.constants.TetrisUIConstants.BLOCK_SIZE;
 import static spypunk.tetris.ui.constants.TetrisUIConstants.DEFAULT_BORDER_COLOR;
-import static spypunk.tetris.ui.constants.TetrisUIConstants.DEFAULT_FONT_COLOR;
-import static spypunk.tetris.ui.constants.TetrisUIConstants.ZERO;
 
-import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.Rectangle;
@@ -28,11 +25,9 @@ import javax.swing.ImageIcon;
 import com.google.common.collect.Lists;
 
 import spypunk.tetris.model.ShapeType;
-import spypunk.tetris.model.Tetris;
-import spypunk.tetris.model.TetrisInstance;
 import spypunk.tetris.ui.cache.ImageCache;
 import spypunk.tetris.ui.font.FontType;
-import spypunk.tetris.ui.font.cache.FontCache;
+import spypunk.tetris.ui.font.renderer.TextRenderer;
 import spypunk.tetris.ui.util.SwingUtils;
 
 public class TetrisInstanceStatisticsView extends AbstractTetrisInstanceView {
@@ -49,7 +44,9 @@ public class TetrisInstanceStatisticsView extends AbstractTetrisInstanceView {
 
     private final List<ShapeType> shapeTypes;
 
-    private final Font defaultFont;
+    private final TextRenderer textRenderer;
+
+    private int renderedStatisticsVersion = -1;
 
     private static class StatisticsRow {
 
@@ -79,11 +76,9 @@ public class TetrisInstanceStatisticsView extends AbstractTetrisInstanceView {
         }
     }
 
-    public TetrisInstanceStatisticsView(final FontCache fontCache,
-            final ImageCache imageCache, final Tetris tetris) {
-        this.tetris = tetris;
-
-        defaultFont = fontCache.getFont(FontType.DEFAULT);
+    public TetrisInstanceStatisticsView(final TextRenderer textRenderer,
+            final ImageCache imageCache) {
+        this.textRenderer = textRenderer;
 
         shapeTypes = Lists.newArrayList(ShapeType.values());
 
@@ -96,26 +91,37 @@ public class TetrisInstanceStatisticsView extends AbstractTetrisInstanceView {
 
         image = new BufferedImage(statisticsRectangle.width + 1, statisticsRectangle.height + BLOCK_SIZE + 1,
                 BufferedImage.TYPE_INT_ARGB);
+        backgroundImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+
+        SwingUtils.doInGraphics(backgroundImage, this::renderBackground);
 
         setIcon(new ImageIcon(image));
         setIgnoreRepaint(true);
     }
 
     @Override
-    public void update() {
-        SwingUtils.doInGraphics(image, this::renderStatistics);
-        repaint();
+    protected boolean render() {
+        final int version = tetrisInstance != null ? tetrisInstance.getStatisticsVersion() : 0;
+
+        if (version == renderedStatisticsVersion) {
+            return false;
+        }
+
+        renderedStatisticsVersion = version;
+
+        SwingUtils.doInGraphics(image, backgroundImage, this::renderStatistics);
+
+        return true;
     }
 
     private StatisticsRow createStatisticRow(final ImageCache imageCache, final ShapeType shapeType) {
-        final Image shapeImage = imageCache.getShapeImage(shapeType);
+        final Image shapeImage = imageCache.getSmallShapeImage(shapeType);
         final Rectangle imageContainerRectangle = new Rectangle(statisticsRectangle.x,
                 statisticsRectangle.y + shapeType.ordinal() * 2 * BLOCK_SIZE + BLOCK_SIZE,
                 statisticsRectangle.width / 2, BLOCK_SIZE);
 
         final Rectangle imageRectangle = SwingUtils.getCenteredImageRectangle(shapeImage,
-            imageContainerRectangle,
-            0.5);
+            imageContainerRectangle);
 
         final Rectangle textContainerRectangle = new Rectangle(
                 statisticsRectangle.x + imageContainerRectangle.width,
@@ -125,33 +131,30 @@ public class TetrisInstanceStatisticsView extends AbstractTetrisInstanceView {
                 textContainerRectangle);
     }
 
-    private void renderStatistics(final Graphics2D graphics) {
-        SwingUtils.renderCenteredText(graphics, STATISTICS,
-            statisticsLabelRectangle, defaultFont, DEFAULT_FONT_COLOR);
+    private void renderBackground(final Graphics2D graphics) {
+        textRenderer.renderCenteredText(graphics, STATISTICS, statisticsLabelRectangle, FontType.DEFAULT);
 
         graphics.setColor(DEFAULT_BORDER_COLOR);
 
         graphics.drawRect(statisticsRectangle.x, statisticsRectangle.y, statisticsRectangle.width,
             statisticsRectangle.height);
 
+        shapeTypes.forEach(shapeType -> {
+            final StatisticsRow statisticsRow = statisticsRows.get(shapeType);
+
+            SwingUtils.drawImage(graphics, statisticsRow.getImage(), statisticsRow.getImageRectangle());
+        });
+    }
+
+    private void renderStatistics(final Graphics2D graphics) {
         shapeTypes.forEach(shapeType -> renderStatistic(graphics, shapeType));
     }
 
     private void renderStatistic(final Graphics2D graphics, final ShapeType shapeType) {
         final StatisticsRow statisticsRow = statisticsRows.get(shapeType);
-        final TetrisInstance tetrisInstance = tetris.getTetrisInstance();
-        String value;
-
-        if (tetrisInstance == null) {
-            value = ZERO;
-        } else {
-            final Map<ShapeType, Integer> statistics = tetrisInstance.getStatistics();
-            value = String.valueOf(statistics.get(shapeType));
-        }
-
-        SwingUtils.drawImage(graphics, statisticsRow.getImage(), statisticsRow.getImageRectangle());
+        final int value = tetrisInstance != null ? tetrisInstance.getStatistics()[shapeType.ordinal()] : 0;
 
-        SwingUtils.renderCenteredText(graphics, value,
-            statisticsRow.getTextContainerRectangle(), defaultFont, DEFAULT_FONT_COLOR);
+        textRenderer.renderCenteredNumber(graphics, value, statisticsRow.getTextContainerRectangle(),
+            FontType.DEFAULT);
     }
 }
@@ -13,4 +13,6 @@ public interface TetrisView extends View {
     void show();
 
     void setMute(boolean mute);
+
+    void update(double interpolation);
 }
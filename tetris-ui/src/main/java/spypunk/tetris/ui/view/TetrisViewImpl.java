@@ -20,6 +20,7 @@ import java.awt.event.MouseEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.net.URI;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.swing.BorderFactory;
 import javax.swing.ImageIcon;
@@ -29,12 +30,17 @@ import javax.swing.JPanel;
 import javax.swing.WindowConstants;
 
 import spypunk.tetris.model.Tetris;
+import spypunk.tetris.model.TetrisInstance;
+import spypunk.tetris.service.TetrisInstanceService;
 import spypunk.tetris.ui.cache.ImageCache;
 import spypunk.tetris.ui.controller.TetrisController;
 import spypunk.tetris.ui.font.FontType;
 import spypunk.tetris.ui.font.cache.FontCache;
+import spypunk.tetris.ui.font.renderer.TextRenderer;
 import spypunk.tetris.ui.icon.Icon;
+import spypunk.tetris.ui.util.StartupMilestone;
 import spypunk.tetris.ui.util.SwingUtils;
+import spypunk.tetris.ui.util.TripleBuffer;
 
 public class TetrisViewImpl implements TetrisView {
 
@@ -44,7 +50,7 @@ public class TetrisViewImpl implements TetrisView {
 
     private final TetrisInstanceInfoView tetrisInstanceInfoView;
 
-    private final TetrisInstanceGridView tetrisInstanceGridView;
+    private final AbstractTetrisInstanceGridView tetrisInstanceGridView;
 
     private final JLabel muteLabel;
 
@@ -52,6 +58,28 @@ public class TetrisViewImpl implements TetrisView {
 
     private final ImageIcon unmuteImageIcon;
 
+    private final Tetris tetris;
+
+    private final TetrisInstanceService tetrisInstanceService;
+
+    private final TripleBuffer<TetrisInstanceSnapshot> tetrisInstanceSnapshots = new TripleBuffer<>(
+            TetrisInstanceSnapshot::new);
+
+    private final AtomicBoolean updatePending = new AtomicBoolean();
+
+    private final Runnable updateRunnable = this::doUpdate;
+
+    private final TetrisInstanceCanvas tetrisInstanceCanvas;
+
+    private TetrisInstance tetrisInstanceSnapshot;
+
+    private static final class TetrisInstanceSnapshot {
+
+        private final TetrisInstance tetrisInstance = TetrisInstance.Builder.instance().build();
+
+        private double interpolation;
+    }
+
     private final class TetrisViewWindowListener extends WindowAdapter {
 
         private final TetrisController tetrisController;
@@ -60,6 +88,11 @@ public class TetrisViewImpl implements TetrisView {
             this.tetrisController = tetrisController;
         }
 
+        @Override
+        public void windowOpened(final WindowEvent e) {
+            StartupMilestone.FRAME_VISIBLE.reach();
+        }
+
         @Override
         public void windowClosed(final WindowEvent e) {
             tetrisController.onWindowClosed();
@@ -114,10 +147,18 @@ public class TetrisViewImpl implements TetrisView {
     public TetrisViewImpl(final TetrisController tetrisController,
             final FontCache fontCache,
             final ImageCache imageCache,
-            final Tetris tetris) {
-        tetrisInstanceStatisticsView = new TetrisInstanceStatisticsView(fontCache, imageCache, tetris);
-        tetrisInstanceInfoView = new TetrisInstanceInfoView(fontCache, imageCache, tetris);
-        tetrisInstanceGridView = new TetrisInstanceGridView(fontCache, imageCache, tetris);
+            final TextRenderer textRenderer,
+            final TetrisInstanceService tetrisInstanceService,
+            final Tetris tetris,
+            final boolean activeRendering,
+            final boolean rasterRendering) {
+        this.tetris = tetris;
+        this.tetrisInstanceService = tetrisInstanceService;
+
+        tetrisInstanceStatisticsView = new TetrisInstanceStatisticsView(textRenderer, imageCache);
+        tetrisInstanceInfoView = new TetrisInstanceInfoView(textRenderer, imageCache);
+        tetrisInstanceGridView = rasterRendering ? new TetrisInstanceRasterGridView(textRenderer, imageCache)
+                : new TetrisInstanceGridView(textRenderer, imageCache);
 
         muteImageIcon = new ImageIcon(imageCache.getIcon(Icon.MUTE));
         unmuteImageIcon = new ImageIcon(imageCache.getIcon(Icon.UNMUTE));
@@ -145,9 +186,18 @@ public class TetrisViewImpl implements TetrisView {
         centerPanel.setBackground(Color.BLACK);
         centerPanel.setBorder(BorderFactory.createEmptyBorder(BLOCK_SIZE, BLOCK_SIZE, BLOCK_SIZE, BLOCK_SIZE));
 
-        centerPanel.add(tetrisInstanceGridView, BorderLayout.CENTER);
-        centerPanel.add(tetrisInstanceStatisticsView, BorderLayout.WEST);
-        centerPanel.add(tetrisInstanceInfoView, BorderLayout.EAST);
+        if (activeRendering) {
+            tetrisInstanceCanvas = new TetrisInstanceCanvas(tetrisInstanceStatisticsView, tetrisInstanceGridView,
+                    tetrisInstanceInfoView);
+
+            centerPanel.add(tetrisInstanceCanvas, BorderLayout.CENTER);
+        } else {
+            tetrisInstanceCanvas = null;
+
+            centerPanel.add(tetrisInstanceGridView, BorderLayout.CENTER);
+            centerPanel.add(tetrisInstanceStatisticsView, BorderLayout.WEST);
+            centerPanel.add(tetrisInstanceInfoView, BorderLayout.EAST);
+        }
 
         frame = new JFrame(tetris.getName() + " " + tetris.getVersion());
 
@@ -163,6 +213,8 @@ public class TetrisViewImpl implements TetrisView {
         frame.pack();
 
         frame.setLocationRelativeTo(null);
+
+        StartupMilestone.VIEW_CREATED.reach();
     }
 
     @Override
@@ -172,7 +224,31 @@ public class TetrisViewImpl implements TetrisView {
 
     @Override
     public void update() {
-        SwingUtils.doInAWTThread(this::doUpdate, true);
+        update(0);
+    }
+
+    @Override
+    public void update(final double interpolation) {
+        final TetrisInstance tetrisInstance = tetris.getTetrisInstance();
+
+        if (tetrisInstanceCanvas != null) {
+            tetrisInstanceGridView.setInterpolation(interpolation);
+            tetrisInstanceCanvas.render(tetrisInstance);
+            return;
+        }
+
+        if (tetrisInstance != null) {
+            final TetrisInstanceSnapshot snapshot = tetrisInstanceSnapshots.getBackBuffer();
+
+            tetrisInstanceService.copy(tetrisInstance, snapshot.tetrisInstance);
+            snapshot.interpolation = interpolation;
+
+            tetrisInstanceSnapshots.publish();
+        }
+
+        if (updatePending.compareAndSet(false, true)) {
+            SwingUtils.doInAWTThread(updateRunnable, false);
+        }
     }
 
     @Override
@@ -185,8 +261,17 @@ public class TetrisViewImpl implements TetrisView {
     }
 
     private void doUpdate() {
-        tetrisInstanceGridView.update();
-        tetrisInstanceStatisticsView.update();
-        tetrisInstanceInfoView.update();
+        updatePending.set(false);
+
+        final TetrisInstanceSnapshot snapshot = tetrisInstanceSnapshots.poll();
+
+        if (snapshot != null) {
+            tetrisInstanceSnapshot = snapshot.tetrisInstance;
+            tetrisInstanceGridView.setInterpolation(snapshot.interpolation);
+        }
+
+        tetrisInstanceGridView.update(tetrisInstanceSnapshot);
+        tetrisInstanceStatisticsView.update(tetrisInstanceSnapshot);
+        tetrisInstanceInfoView.update(tetrisInstanceSnapshot);
     }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2016 spypunk <spypunk@gmail.com>
+ *
+ * This work is free. You can redistribute it and/or modify it under the
+ * terms of the Do What The Fuck You Want To Public License, Version 2,
+ * as published by Sam Hocevar. See the COPYING file for more details.
+ */
+
+package spypunk.tetris.ui.view;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static spypunk.tetris.constants.TetrisConstants.HEIGHT;
+import static spypunk.tetris.constants.TetrisConstants.WIDTH;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import spypunk.tetris.factory.ShapeFactoryImpl;
+import spypunk.tetris.model.Shape;
+import spypunk.tetris.model.ShapeRandomizer;
+import spypunk.tetris.model.ShapeRotation;
+import spypunk.tetris.model.ShapeType;
+import spypunk.tetris.model.TetrisEvent;
+import spypunk.tetris.model.TetrisInstance;
+import spypunk.tetris.service.TetrisInstanceService;
+import spypunk.tetris.service.TetrisInstanceServiceImpl;
+import spypunk.tetris.ui.cache.ImageCache;
+import spypunk.tetris.ui.cache.ImageCacheImpl;
+import spypunk.tetris.ui.font.cache.FontCacheImpl;
+import spypunk.tetris.ui.font.renderer.TextRenderer;
+import spypunk.tetris.ui.font.renderer.TextRendererImpl;
+
+public class AbstractTetrisInstanceGridViewTest {
+
+    private static final long SEED = 42;
+
+    private static final int GARBAGE_ROWS = 6;
+
+    private static final int CLEARED_ROWS = 4;
+
+    private static final int FULL_ROW = (1 << WIDTH) - 1;
+
+    private static final List<BiFunction<TextRenderer, ImageCache, AbstractTetrisInstanceGridView>> GRID_VIEWS = Arrays
+            .asList(TetrisInstanceGridView::new, TetrisInstanceRasterGridView::new);
+
+    private static final TetrisInstanceService TETRIS_INSTANCE_SERVICE = new TetrisInstanceServiceImpl(
+            new ShapeFactoryImpl());
+
+    private static TextRenderer textRenderer;
+
+    private static ImageCache imageCache;
+
+    @BeforeClass
+    public static void setUp() {
+        imageCache = new ImageCacheImpl();
+        textRenderer = new TextRendererImpl(new FontCacheImpl());
+    }
+
+    @Test
+    public void testStackAfterLockMatchesFullRedraw() {
+        for (final BiFunction<TextRenderer, ImageCache, AbstractTetrisInstanceGridView> gridView : GRID_VIEWS) {
+            final Random random = new Random(SEED);
+            final TetrisInstance tetrisInstance = TETRIS_INSTANCE_SERVICE.create(SEED, ShapeRandomizer.BAG);
+
+            for (int row = HEIGHT - GARBAGE_ROWS; row < HEIGHT; ++row) {
+                fillRow(tetrisInstance, row, random.nextInt(FULL_ROW), random);
+            }
+
+            final AbstractTetrisInstanceGridView incrementalGridView = createGridView(gridView, tetrisInstance);
+
+            TETRIS_INSTANCE_SERVICE.triggerHardDrop(tetrisInstance);
+
+            updateAndRender(tetrisInstance, incrementalGridView, TetrisEvent.SHAPE_LOCKED);
+
+            tetrisInstance.setCurrentGravityFrame(tetrisInstance.getSpeed());
+
+            TETRIS_INSTANCE_SERVICE.update(tetrisInstance);
+
+            incrementalGridView.render(tetrisInstance);
+
+            assertSameImage(createGridView(gridView, tetrisInstance), incrementalGridView);
+        }
+    }
+
+    @Test
+    public void testStackAfterMultiRowClearMatchesFullRedraw() {
+        for (final BiFunction<TextRenderer, ImageCache, AbstractTetrisInstanceGridView> gridView : GRID_VIEWS) {
+            final Random random = new Random(SEED);
+            final TetrisInstance tetrisInstance = TETRIS_INSTANCE_SERVICE.create(SEED, ShapeRandomizer.BAG);
+            final int hole = random.nextInt(WIDTH);
+
+            for (int row = HEIGHT - GARBAGE_ROWS - CLEARED_ROWS; row < HEIGHT; ++row) {
+                final int gridRow = row < HEIGHT - CLEARED_ROWS ? random.nextInt(FULL_ROW) : FULL_ROW;
+
+                fillRow(tetrisInstance, row, gridRow & ~(1 << hole), random);
+            }
+
+            final int verticalRotation = getVerticalRotation(ShapeType.I);
+            final ShapeRotation rotation = ShapeType.I.getRotation(verticalRotation);
+
+            tetrisInstance.setCurrentShape(Shape.Builder.instance().setShapeType(ShapeType.I)
+                    .setCurrentRotation(verticalRotation).setX(hole - rotation.getMinColumn())
+                    .setY(-rotation.getMinRow()).build());
+
+            final AbstractTetrisInstanceGridView incrementalGridView = createGridView(gridView, tetrisInstance);
+
+            TETRIS_INSTANCE_SERVICE.triggerHardDrop(tetrisInstance);
+
+            updateAndRender(tetrisInstance, incrementalGridView, TetrisEvent.SHAPE_LOCKED);
+
+            assertSameImage(createGridView(gridView, tetrisInstance), incrementalGridView);
+
+            tetrisInstance.setCurrentGravityFrame(tetrisInstance.getSpeed());
+
+            updateAndRender(tetrisInstance, incrementalGridView, TetrisEvent.ROWS_COMPLETED);
+
+            assertEquals(CLEARED_ROWS, Integer.bitCount(tetrisInstance.getClearedGridRows()));
+            assertSameImage(createGridView(gridView, tetrisInstance), incrementalGridView);
+        }
+    }
+
+    private static AbstractTetrisInstanceGridView createGridView(
+            final BiFunction<TextRenderer, ImageCache, AbstractTetrisInstanceGridView> gridView,
+            final TetrisInstance tetrisInstance) {
+        final AbstractTetrisInstanceGridView tetrisInstanceGridView = gridView.apply(textRenderer, imageCache);
+
+        tetrisInstanceGridView.render(tetrisInstance);
+
+        return tetrisInstanceGridView;
+    }
+
+    private static void updateAndRender(final TetrisInstance tetrisInstance,
+            final AbstractTetrisInstanceGridView tetrisInstanceGridView, final TetrisEvent stackEvent) {
+        final int stackVersion = tetrisInstance.getStackVersion();
+
+        TETRIS_INSTANCE_SERVICE.update(tetrisInstance);
+
+        assertEquals(stackVersion + 1, tetrisInstance.getStackVersion());
+        assertEquals(stackEvent, tetrisInstance.getStackEvent());
+
+        tetrisInstanceGridView.render(tetrisInstance);
+    }
+
+    private static void fillRow(final TetrisInstance tetrisInstance, final int row, final int gridRow,
+            final Random random) {
+        tetrisInstance.getGridRows()[row] = gridRow;
+
+        for (int column = 0; column < WIDTH; ++column) {
+            if ((gridRow & 1 << column) != 0) {
+                tetrisInstance.getGridShapeTypes()[row * WIDTH + column] = (byte) random
+                        .nextInt(ShapeType.values().length);
+                tetrisInstance.getGridColumns()[column] |= 1 << row;
+            }
+        }
+    }
+
+    private static int getVerticalRotation(final ShapeType shapeType) {
+        for (int i = 0; i < shapeType.getRotationCount(); ++i) {
+            final ShapeRotation rotation = shapeType.getRotation(i);
+
+            if (rotation.getMinColumn() == rotation.getMaxColumn()) {
+                return i;
+            }
+        }
+
+        throw new IllegalArgumentException(shapeType.name());
+    }
+
+    private static void assertSameImage(final AbstractTetrisInstanceGridView expected,
+            final AbstractTetrisInstanceGridView actual) {
+        assertArrayEquals(getPixels(expected.getImage()), getPixels(actual.getImage()));
+    }
+
+    private static int[] getPixels(final BufferedImage image) {
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+}